@@ -15,7 +15,9 @@ import com.facebook.react.uimanager.UIManagerModule;
 import com.reactnativenavigation.bridge.EventEmitter;
 import com.reactnativenavigation.controllers.ActivityCallbacks;
 import com.reactnativenavigation.react.NavigationReactGateway;
+import com.reactnativenavigation.react.ReactDevPermission;
 import com.reactnativenavigation.react.ReactGateway;
+import com.reactnativenavigation.utils.StartupTimings;
 
 import java.util.List;
 
@@ -27,15 +29,27 @@ public abstract class NavigationApplication extends Application implements React
     private EventEmitter eventEmitter;
     private Handler handler;
     private ActivityCallbacks activityCallbacks;
+    private boolean reactContextStartedOnCreate;
 
     @Override
     public void onCreate() {
         super.onCreate();
         instance = this;
+        StartupTimings.instance.markProcessStart();
         handler = new Handler(getMainLooper());
         reactGateway = new NavigationReactGateway();
         eventEmitter = new EventEmitter(reactGateway);
         activityCallbacks = new ActivityCallbacks();
+        if (startReactContextOnCreate() && !ReactDevPermission.shouldAskPermission()) {
+            reactContextStartedOnCreate = true;
+            // Posted so subclasses finish their own onCreate, which runs after this one, before the context starts
+            runOnMainThread(new Runnable() {
+                @Override
+                public void run() {
+                    startReactContextOnceInBackgroundAndExecuteJS();
+                }
+            });
+        }
     }
 
     @Override
@@ -76,6 +90,14 @@ public abstract class NavigationApplication extends Application implements React
         this.activityCallbacks = activityLifecycleCallbacks;
     }
 
+    public boolean isReactContextStartedOnCreate() {
+        return reactContextStartedOnCreate;
+    }
+
+    public StartupTimings getStartupTimings() {
+        return StartupTimings.instance;
+    }
+
     public boolean isReactContextInitialized() {
         return reactGateway.isInitialized();
     }
@@ -130,6 +152,32 @@ public abstract class NavigationApplication extends Application implements React
         return true;
     }
 
+    /**
+     * Opt in to replace the layout of the resumed NavigationActivity in place when startApp is called, instead of
+     * starting a new activity. Open modals are dismissed and the new intent's data is passed on to the Linking module.
+     */
+    public boolean replaceRootOnStartApp() {
+        return false;
+    }
+
+    /**
+     * Opt in to start creating the react context and executing the bundle from onCreate, in parallel with
+     * SplashActivity being created, instead of waiting for SplashActivity to resume.
+     * Note the bundle then runs whenever the process is started, not only when the app is opened. Apps which
+     * shouldn't show their UI in that case should start it from the RNN.appLaunched event (see Navigation.isAppLaunched).
+     */
+    public boolean startReactContextOnCreate() {
+        return false;
+    }
+
+    /**
+     * The number of in-app notifications which may wait while another one is shown. Once exceeded, the oldest
+     * waiting notification with the lowest priority is dropped.
+     */
+    public int getMaxQueuedInAppNotifications() {
+        return 5;
+    }
+
     @Nullable
     public abstract List<ReactPackage> createAdditionalReactPackages();
 }
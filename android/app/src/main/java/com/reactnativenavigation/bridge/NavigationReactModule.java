@@ -104,6 +104,11 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
         NavigationCommandsHandler.setScreenStyle(screenInstanceId, BundleConverter.toBundle(style));
     }
 
+    @ReactMethod
+    public void setCollapsingScrollView(int reactTag) {
+        NavigationCommandsHandler.setCollapsingScrollView(reactTag);
+    }
+
     @ReactMethod
     public void setBottomTabBadgeByIndex(Integer index, String badge) {
         NavigationCommandsHandler.setBottomTabBadgeByIndex(index, badge);
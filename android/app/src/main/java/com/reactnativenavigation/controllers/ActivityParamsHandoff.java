@@ -0,0 +1,70 @@
+package com.reactnativenavigation.controllers;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.parsers.ActivityParamsParser;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Hands ActivityParams parsed by startApp on the native modules thread to the NavigationActivity it launched.
+ * The intent carries an id identifying the parse it belongs to; an activity created from any other intent
+ * (e.g. after process death) gets nothing and has to parse its intent extras.
+ */
+class ActivityParamsHandoff {
+    private static final String TAG = "ActivityParamsHandoff";
+    private static final String EXTRA_HANDOFF_ID = "ACTIVITY_PARAMS_HANDOFF_ID";
+
+    private static String handoffId;
+    private static FutureTask<ActivityParams> parsedParams;
+
+    /**
+     * Tags the intent and registers a parse task for it. The caller is expected to run the returned task.
+     */
+    static synchronized FutureTask<ActivityParams> offer(Intent intent, final Bundle params) {
+        handoffId = UUID.randomUUID().toString();
+        intent.putExtra(EXTRA_HANDOFF_ID, handoffId);
+        parsedParams = new FutureTask<>(new Callable<ActivityParams>() {
+            @Override
+            public ActivityParams call() throws Exception {
+                return ActivityParamsParser.parse(params);
+            }
+        });
+        return parsedParams;
+    }
+
+    /**
+     * Blocks until the params offered for this intent are parsed. The params are kept so a recreated activity
+     * can reuse them.
+     * @return null if nothing was offered for this intent or parsing failed
+     */
+    @Nullable
+    static ActivityParams get(Intent intent) {
+        FutureTask<ActivityParams> task = getTask(intent.getStringExtra(EXTRA_HANDOFF_ID));
+        if (task == null) {
+            return null;
+        }
+        // Guards against the parse not having been started by the offering thread
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Log.e(TAG, "Parsing ActivityParams off the main thread failed", e.getCause());
+        }
+        return null;
+    }
+
+    @Nullable
+    private static synchronized FutureTask<ActivityParams> getTask(@Nullable String id) {
+        return id != null && id.equals(handoffId) ? parsedParams : null;
+    }
+}
@@ -36,7 +36,7 @@ class Modal extends Dialog implements DialogInterface.OnDismissListener, ScreenS
 
     private final AppCompatActivity activity;
     private final OnModalDismissedListener onModalDismissedListener;
-    private final ScreenParams screenParams;
+    private ScreenParams screenParams;
     private Layout layout;
     private boolean isDestroyed;
 
@@ -115,16 +115,25 @@ class Modal extends Dialog implements DialogInterface.OnDismissListener, ScreenS
         void onModalDismissed(Modal modal);
     }
 
-    Modal(AppCompatActivity activity, OnModalDismissedListener onModalDismissedListener, ScreenParams screenParams) {
+    /**
+     * Creates and configures the modal's window. The content is only created once the modal is shown with
+     * {@link #show(ScreenParams)}, so modals can be created ahead of time.
+     */
+    Modal(AppCompatActivity activity, OnModalDismissedListener onModalDismissedListener) {
         super(activity, R.style.Modal);
         this.activity = activity;
         this.onModalDismissedListener = onModalDismissedListener;
+        createWindow();
+    }
+
+    void show(ScreenParams screenParams) {
         this.screenParams = screenParams;
         createContent();
         setAnimation(screenParams);
         setStatusBarStyle(screenParams.styleParams);
         setNavigationBarStyle(screenParams.styleParams);
         setDrawUnderStatusBar(screenParams.styleParams);
+        show();
     }
 
     private void setStatusBarStyle(StyleParams styleParams) {
@@ -147,12 +156,15 @@ class Modal extends Dialog implements DialogInterface.OnDismissListener, ScreenS
         return activity;
     }
 
-    private void createContent() {
+    private void createWindow() {
         setCancelable(true);
         setOnDismissListener(this);
         requestWindowFeature(Window.FEATURE_NO_TITLE);
-        layout = new ModalScreenLayout(getActivity(), screenParams, this);
         setWindowFlags();
+    }
+
+    private void createContent() {
+        layout = new ModalScreenLayout(getActivity(), screenParams, this);
         setOrientation(screenParams.styleParams.orientation);
         setContentView(layout.asView());
     }
@@ -164,6 +176,8 @@ class Modal extends Dialog implements DialogInterface.OnDismissListener, ScreenS
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
             window.addFlags(WindowManager.LayoutParams.FLAG_DRAWS_SYSTEM_BAR_BACKGROUNDS);
         }
+        // Installs the window decor now instead of when the content is set
+        window.getDecorView();
     }
 
     private void setAnimation(ScreenParams screenParams) {
@@ -226,6 +240,19 @@ class Modal extends Dialog implements DialogInterface.OnDismissListener, ScreenS
         });
     }
 
+    /**
+     * Destroys the modal and removes its window without an exit animation, lifecycle events or notifying the
+     * {@link OnModalDismissedListener}.
+     */
+    void dismissWithoutAnimation() {
+        destroy();
+        Window window = getWindow();
+        if (window != null) {
+            window.setWindowAnimations(0);
+        }
+        super.dismiss();
+    }
+
     @Override
     public void dismiss() {
         if (!isDestroyed) {
@@ -1,6 +1,8 @@
 package com.reactnativenavigation.controllers;
 
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.support.v7.app.AppCompatActivity;
 import android.view.Window;
 
@@ -16,15 +18,49 @@ import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 import java.util.Stack;
 
-class ModalController implements ScreenStackContainer, Modal.OnModalDismissedListener {
+class ModalController implements ScreenStackContainer, Modal.OnModalDismissedListener, MessageQueue.IdleHandler {
+    private static final int POOL_SIZE = 2;
+
     private final AppCompatActivity activity;
     private Stack<Modal> stack = new Stack<>();
+    private final Queue<Modal> pool = new ArrayDeque<>(POOL_SIZE);
+    private boolean isFillingPool;
 
     ModalController(AppCompatActivity activity) {
         this.activity = activity;
+        fillPoolWhenIdle();
+    }
+
+    /**
+     * Creates modal windows ahead of time, one per idle main thread pass, so showing a modal only needs to create its
+     * content and show the window.
+     */
+    private void fillPoolWhenIdle() {
+        if (!isFillingPool && pool.size() < POOL_SIZE) {
+            isFillingPool = true;
+            Looper.myQueue().addIdleHandler(this);
+        }
+    }
+
+    @Override
+    public boolean queueIdle() {
+        if (activity.isFinishing()) {
+            isFillingPool = false;
+            return false;
+        }
+        pool.add(new Modal(activity, this));
+        isFillingPool = pool.size() < POOL_SIZE;
+        return isFillingPool;
+    }
+
+    private Modal obtainModal() {
+        Modal modal = pool.poll();
+        return modal == null ? new Modal(activity, this) : modal;
     }
 
     boolean containsNavigator(String navigatorId) {
@@ -37,9 +73,10 @@ class ModalController implements ScreenStackContainer, Modal.OnModalDismissedLis
     }
 
     void showModal(ScreenParams screenParams) {
-        Modal modal = new Modal(activity, this, screenParams);
-        modal.show();
+        Modal modal = obtainModal();
+        modal.show(screenParams);
         stack.add(modal);
+        fillPoolWhenIdle();
     }
 
     void dismissTopModal(ScreenParams params) {
@@ -48,11 +85,19 @@ class ModalController implements ScreenStackContainer, Modal.OnModalDismissedLis
         }
     }
 
+    /**
+     * Only the top modal is animated out and sends disappear events. The modals underneath it are torn down right
+     * away, so the screen below all modals receives a single set of appear events once the top modal is dismissed.
+     */
     void dismissAllModals() {
-        for (Modal modal : stack) {
-            modal.dismiss();
+        if (!isShowing()) {
+            return;
         }
-        stack.clear();
+        Modal top = stack.pop();
+        while (!stack.empty()) {
+            stack.pop().dismissWithoutAnimation();
+        }
+        top.dismiss();
     }
 
     boolean isShowing() {
@@ -78,8 +123,10 @@ class ModalController implements ScreenStackContainer, Modal.OnModalDismissedLis
         stack.peek().newStack(params);
     }
 
-    @Override
-    public void destroy() {
+    /**
+     * Destroys and dismisses all modals. Unlike {@link #destroy()}, the pool of modal windows is kept.
+     */
+    void destroyModals() {
         for (Modal modal : stack) {
             modal.destroy();
             modal.dismiss();
@@ -87,6 +134,14 @@ class ModalController implements ScreenStackContainer, Modal.OnModalDismissedLis
         stack.clear();
     }
 
+    @Override
+    public void destroy() {
+        destroyModals();
+        Looper.myQueue().removeIdleHandler(this);
+        isFillingPool = false;
+        pool.clear();
+    }
+
     @Override
     public void onModalDismissed(Modal modal) {
         stack.remove(modal);
@@ -9,6 +9,8 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.view.KeyEvent;
+import android.view.View;
+import android.view.ViewGroup;
 import android.view.Window;
 
 import com.facebook.react.bridge.Callback;
@@ -44,6 +46,8 @@ import com.reactnativenavigation.views.SideMenu.Side;
 
 import java.util.List;
 
+import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
+
 public class NavigationActivity extends AppCompatActivity implements DefaultHardwareBackBtnHandler, Subscriber, PermissionAwareActivity {
 
     /**
@@ -56,11 +60,14 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
      */
     static NavigationActivity currentActivity;
     private static Promise startAppPromise;
+    private static final int REPLACE_ROOT_CROSSFADE_DURATION = 200;
 
     private ActivityParams activityParams;
     private ModalController modalController;
     private Layout layout;
     @Nullable
+    private Layout replacedLayout;
+    @Nullable
     private PermissionListener mPermissionListener;
 
     @Override
@@ -104,6 +111,61 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
         setContentView(layout.asView());
     }
 
+    /**
+     * Replaces the current layout with one created from the given intent's params, without recreating the activity.
+     * The new layout is built before it's attached and crossfaded in above the old one, which is destroyed afterwards.
+     * Modals are dismissed, but the controller is kept so its pool of modal windows stays warm.
+     */
+    void replaceRoot(Intent intent, @Nullable final Promise promise) {
+        setIntent(intent);
+        activityParams = NavigationCommandsHandler.parseActivityParams(intent);
+        setOrientation();
+        modalController.destroyModals();
+        destroyReplacedLayout();
+
+        replacedLayout = layout;
+        layout = LayoutFactory.create(this, activityParams);
+        final View layoutView = layout.asView();
+        if (hasBackgroundColor()) {
+            layoutView.setBackgroundColor(AppStyle.appStyle.screenBackgroundColor.getColor());
+        }
+        ViewGroup content = (ViewGroup) findViewById(android.R.id.content);
+        content.addView(layoutView, new ViewGroup.LayoutParams(MATCH_PARENT, MATCH_PARENT));
+        // The activity isn't resumed again, so pass the new intent's data on as onResume would
+        IntentDataHandler.onResume(intent);
+        IntentDataHandler.onPostResume(intent);
+
+        final Runnable removePreviousLayout = new Runnable() {
+            @Override
+            public void run() {
+                destroyReplacedLayout();
+                if (promise != null) {
+                    promise.resolve(true);
+                }
+            }
+        };
+        if (activityParams.animateShow) {
+            layoutView.setAlpha(0);
+            layoutView.animate()
+                    .alpha(1)
+                    .setDuration(REPLACE_ROOT_CROSSFADE_DURATION)
+                    .withEndAction(removePreviousLayout);
+        } else {
+            removePreviousLayout.run();
+        }
+    }
+
+    private void destroyReplacedLayout() {
+        if (replacedLayout != null) {
+            ViewGroup parent = (ViewGroup) replacedLayout.asView().getParent();
+            if (parent != null) {
+                parent.removeView(replacedLayout.asView());
+            }
+            replacedLayout.destroy();
+            replacedLayout = null;
+        }
+    }
+
     private boolean hasBackgroundColor() {
         return AppStyle.appStyle.screenBackgroundColor != null &&
                 AppStyle.appStyle.screenBackgroundColor.hasColor();
@@ -185,6 +247,7 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
             layout.destroy();
             layout = null;
         }
+        destroyReplacedLayout();
     }
 
     private void destroyJsIfNeeded() {
@@ -2,33 +2,73 @@ package com.reactnativenavigation.controllers;
 
 import android.content.*;
 import android.os.*;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewParent;
 
 import com.facebook.react.bridge.*;
+import com.facebook.react.uimanager.IllegalViewOperationException;
+import com.facebook.react.uimanager.NativeViewHierarchyManager;
+import com.facebook.react.uimanager.UIBlock;
 import com.reactnativenavigation.*;
 import com.reactnativenavigation.params.*;
 import com.reactnativenavigation.params.parsers.*;
 import com.reactnativenavigation.react.*;
 import com.reactnativenavigation.utils.*;
+import com.reactnativenavigation.views.CollapsingContentView;
+import com.reactnativenavigation.views.SideMenuWidthCache;
 import com.reactnativenavigation.views.SideMenu.*;
 
 import java.util.*;
+import java.util.concurrent.FutureTask;
 
 public class NavigationCommandsHandler {
 
+    private static final String TAG = "NavigationCommandsHandler";
     private static final String ACTIVITY_PARAMS_BUNDLE = "ACTIVITY_PARAMS_BUNDLE";
 
     static ActivityParams parseActivityParams(Intent intent) {
+        ActivityParams result = ActivityParamsHandoff.get(intent);
+        if (result != null) {
+            return result;
+        }
         return ActivityParamsParser.parse(intent.getBundleExtra(NavigationCommandsHandler.ACTIVITY_PARAMS_BUNDLE));
     }
 
     public static void startApp(Bundle params, Promise promise) {
+        StartupTimings.instance.mark(StartupTimings.Phase.StartAppReceived);
+        TypefaceLoader.preload(ActivityParamsParser.getDeclaredFontFamilies(params));
+        ResourceDrawableIdHelper.instance.buildIndexInBackground(NavigationApplication.instance);
+        SideMenuWidthCache.preload(NavigationApplication.instance);
         Intent intent = new Intent(NavigationApplication.instance, NavigationActivity.class);
         IntentDataHandler.onStartApp(intent);
         intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TASK | Intent.FLAG_ACTIVITY_NEW_TASK);
         intent.putExtra(ACTIVITY_PARAMS_BUNDLE, params);
         intent.putExtra("animationType", params.getString("animationType"));
-        NavigationActivity.setStartAppPromise(promise);
-        NavigationApplication.instance.startActivity(intent);
+        FutureTask<ActivityParams> parseActivityParams = ActivityParamsHandoff.offer(intent, params);
+        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
+        if (currentActivity != null && NavigationApplication.instance.replaceRootOnStartApp()) {
+            parseActivityParams.run();
+            replaceRoot(currentActivity, intent, promise);
+        } else {
+            NavigationActivity.setStartAppPromise(promise);
+            NavigationApplication.instance.startActivity(intent);
+            parseActivityParams.run();
+        }
+    }
+
+    private static void replaceRoot(final NavigationActivity activity, final Intent intent, final Promise promise) {
+        NavigationApplication.instance.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                if (activity == NavigationActivity.currentActivity && !activity.isFinishing()) {
+                    activity.replaceRoot(intent, promise);
+                } else {
+                    NavigationActivity.setStartAppPromise(promise);
+                    NavigationApplication.instance.startActivity(intent);
+                }
+            }
+        });
     }
 
     public static void push(Bundle screenParams, final Promise onPushComplete) {
@@ -247,6 +287,31 @@ public class NavigationCommandsHandler {
         });
     }
 
+    public static void setCollapsingScrollView(final int reactTag) {
+        if (NavigationActivity.currentActivity == null) {
+            return;
+        }
+        NavigationApplication.instance.getUiManagerModule().addUIBlock(new UIBlock() {
+            @Override
+            public void execute(NativeViewHierarchyManager nativeViewHierarchyManager) {
+                View view;
+                try {
+                    view = nativeViewHierarchyManager.resolveView(reactTag);
+                } catch (IllegalViewOperationException e) {
+                    Log.w(TAG, "Can't set collapsing scroll view, view " + reactTag + " not found");
+                    return;
+                }
+                ViewParent parent = view.getParent();
+                while (parent != null && !(parent instanceof CollapsingContentView)) {
+                    parent = parent.getParent();
+                }
+                if (parent != null) {
+                    ((CollapsingContentView) parent).registerScrollView(view);
+                }
+            }
+        });
+    }
+
     public static void dismissTopModal(final ScreenParams params) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
@@ -523,10 +588,19 @@ public class NavigationCommandsHandler {
     }
 
     public static void isAppLaunched(Promise promise) {
-        final boolean isAppLaunched = SplashActivity.isResumed || NavigationActivity.currentActivity != null;
+        final boolean isAppLaunched = (SplashActivity.isResumed && !isAwaitingBundleStartedOnCreate()) ||
+                                      NavigationActivity.currentActivity != null;
         promise.resolve(isAppLaunched);
     }
 
+    /**
+     * While a bundle started from Application.onCreate executes, SplashActivity sends RNN.appLaunched once it's done.
+     */
+    private static boolean isAwaitingBundleStartedOnCreate() {
+        return NavigationApplication.instance.isReactContextStartedOnCreate() &&
+               !StartupTimings.instance.isReached(StartupTimings.Phase.BundleExecuted);
+    }
+
     public static void isRootLaunched(Promise promise) {
         promise.resolve(NavigationActivity.currentActivity != null);
     }
@@ -12,9 +12,11 @@ import android.view.View;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.react.*;
 import com.reactnativenavigation.utils.CompatUtils;
+import com.reactnativenavigation.utils.StartupTimings;
 
 public abstract class SplashActivity extends AppCompatActivity {
     public static boolean isResumed = false;
+    private boolean isAwaitingBundle = false;
 
     public static void start(Activity activity) {
         Intent intent = activity.getPackageManager().getLaunchIntentForPackage(activity.getPackageName());
@@ -40,6 +42,11 @@ public abstract class SplashActivity extends AppCompatActivity {
         super.onResume();
         isResumed = true;
 
+        if (isAwaitingReactContextStartedOnCreate()) {
+            sendAppLaunchedEventWhenBundleExecuted();
+            return;
+        }
+
         if (NavigationApplication.instance.getReactGateway().hasStartedCreatingContext()) {
             if (CompatUtils.isSplashOpenedOverNavigationActivity(this, getIntent())) {
                 finish();
@@ -67,6 +74,31 @@ public abstract class SplashActivity extends AppCompatActivity {
         NavigationApplication.instance.startReactContextOnceInBackgroundAndExecuteJS();
     }
 
+    private boolean isAwaitingReactContextStartedOnCreate() {
+        return NavigationApplication.instance.isReactContextStartedOnCreate() &&
+               !StartupTimings.instance.isReached(StartupTimings.Phase.StartAppReceived);
+    }
+
+    /**
+     * The bundle was started from Application.onCreate. If it didn't call startApp by itself, it's waiting for the
+     * RNN.appLaunched event.
+     */
+    private void sendAppLaunchedEventWhenBundleExecuted() {
+        if (isAwaitingBundle) {
+            return;
+        }
+        isAwaitingBundle = true;
+        StartupTimings.instance.runWhenReached(StartupTimings.Phase.BundleExecuted, new Runnable() {
+            @Override
+            public void run() {
+                isAwaitingBundle = false;
+                if (isResumed && !isFinishing() && !StartupTimings.instance.isReached(StartupTimings.Phase.StartAppReceived)) {
+                    NavigationApplication.instance.getEventEmitter().sendAppLaunchedEvent();
+                }
+            }
+        });
+    }
+
     @Override
     protected void onPause() {
         super.onPause();
@@ -37,6 +37,7 @@ import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.utils.ViewUtils;
 import com.reactnativenavigation.views.BottomTabs;
 import com.reactnativenavigation.views.LightBox;
+import com.reactnativenavigation.views.LightBoxCache;
 import com.reactnativenavigation.views.SideMenu;
 import com.reactnativenavigation.views.SideMenu.Side;
 import com.reactnativenavigation.views.SnackbarAndFabContainer;
@@ -63,6 +64,7 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     SideMenu sideMenu;
     private int currentStackIndex = 0;
     private LightBox lightBox;
+    private final LightBoxCache lightBoxCache = new LightBoxCache();
 
     public BottomTabsLayout(AppCompatActivity activity, ActivityParams params) {
         super(activity);
@@ -105,6 +107,7 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     private void createAndAddScreens(int position) {
         ScreenParams screenParams = params.tabParams.get(position);
         ScreenStack newStack = new ScreenStack(getActivity(), getScreenStackParent(), screenParams.getNavigatorId(), this);
+        newStack.setHibernateWhenHidden(AppStyle.appStyle.hibernateHiddenTabs);
         newStack.pushInitialScreen(screenParams, createScreenLayoutParams(screenParams));
         screenStacks[position] = newStack;
     }
@@ -285,13 +288,12 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     @Override
     public void showLightBox(LightBoxParams params) {
         if (lightBox == null) {
-            lightBox = new LightBox(getActivity(), new Runnable() {
+            lightBox = lightBoxCache.show(getActivity(), params, new Runnable() {
                 @Override
                 public void run() {
                     lightBox = null;
                 }
-            }, params);
-            lightBox.show();
+            });
         }
     }
 
@@ -468,6 +470,7 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
             lightBox.destroy();
             lightBox = null;
         }
+        lightBoxCache.destroy();
         slidingOverlaysQueue.destroy();
     }
 
@@ -25,6 +25,7 @@ import com.reactnativenavigation.screens.Screen;
 import com.reactnativenavigation.screens.ScreenStack;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 import com.reactnativenavigation.views.LightBox;
+import com.reactnativenavigation.views.LightBoxCache;
 import com.reactnativenavigation.views.SideMenu;
 import com.reactnativenavigation.views.SideMenu.Side;
 import com.reactnativenavigation.views.SnackbarAndFabContainer;
@@ -46,6 +47,7 @@ public class SingleScreenLayout extends BaseLayout {
     private @Nullable SideMenu sideMenu;
     private final SlidingOverlaysQueue slidingOverlaysQueue = new SlidingOverlaysQueue();
     private LightBox lightBox;
+    private final LightBoxCache lightBoxCache = new LightBoxCache();
 
     public SingleScreenLayout(AppCompatActivity activity, SideMenuParams leftSideMenuParams,
                               SideMenuParams rightSideMenuParams, ScreenParams screenParams) {
@@ -141,6 +143,7 @@ public class SingleScreenLayout extends BaseLayout {
         if (lightBox != null) {
             lightBox.destroy();
         }
+        lightBoxCache.destroy();
         slidingOverlaysQueue.destroy();
     }
 
@@ -247,13 +250,12 @@ public class SingleScreenLayout extends BaseLayout {
     @Override
     public void showLightBox(LightBoxParams params) {
         if (lightBox == null) {
-            lightBox = new LightBox(getActivity(), new Runnable() {
+            lightBox = lightBoxCache.show(getActivity(), params, new Runnable() {
                 @Override
                 public void run() {
                     lightBox = null;
                 }
-            }, params);
-            lightBox.show();
+            });
         }
     }
 
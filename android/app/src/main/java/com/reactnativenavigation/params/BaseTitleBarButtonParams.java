@@ -2,6 +2,7 @@ package com.reactnativenavigation.params;
 
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.text.TextUtils;
 import android.view.MenuItem;
 
 public class BaseTitleBarButtonParams {
@@ -21,6 +22,7 @@ public class BaseTitleBarButtonParams {
     public String eventId;
     public String label;
     public Drawable icon;
+    public String iconSource;
     public String componentName;
     public Bundle componentProps;
     public StyleParams.Color color;
@@ -54,4 +56,27 @@ public class BaseTitleBarButtonParams {
     public boolean hasComponent() {
         return componentName != null;
     }
+
+    public boolean hasSameComponent(BaseTitleBarButtonParams other) {
+        if (!TextUtils.equals(componentName, other.componentName)) {
+            return false;
+        }
+        return componentName == null || hasSameValues(componentProps, other.componentProps);
+    }
+
+    private static boolean hasSameValues(Bundle a, Bundle b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        if (!a.keySet().equals(b.keySet())) {
+            return false;
+        }
+        for (String key : a.keySet()) {
+            Object value = a.get(key);
+            if (value == null ? b.get(key) != null : !value.equals(b.get(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
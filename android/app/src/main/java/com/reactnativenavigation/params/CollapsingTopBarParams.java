@@ -13,6 +13,7 @@ public class CollapsingTopBarParams {
     public boolean showTitleWhenExpended;
     public boolean showTitleWhenCollapsed;
     public StyleParams.Color expendedTitleBarColor;
+    public boolean collapseOnNestedScroll;
 
     public boolean hasBackgroundImage() {
         return imageUri != null;
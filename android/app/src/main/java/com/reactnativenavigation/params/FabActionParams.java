@@ -1,11 +1,19 @@
 package com.reactnativenavigation.params;
 
 import android.graphics.drawable.Drawable;
+import android.text.TextUtils;
 
 public class FabActionParams {
     public String id;
     public String navigatorEventId;
     public Drawable icon;
+    public String iconSource;
     public StyleParams.Color backgroundColor;
     public StyleParams.Color iconColor;
+
+    public boolean hasSameStyle(FabActionParams other) {
+        return TextUtils.equals(iconSource, other.iconSource) &&
+               iconColor.equals(other.iconColor) &&
+               backgroundColor.equals(other.backgroundColor);
+    }
 }
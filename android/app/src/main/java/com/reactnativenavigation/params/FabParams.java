@@ -1,12 +1,15 @@
 package com.reactnativenavigation.params;
 
 import android.graphics.drawable.Drawable;
+import android.text.TextUtils;
 
 import java.util.List;
 
 public class FabParams {
     public Drawable collapsedIcon;
+    public String collapsedIconSource;
     public Drawable expendedIcon;
+    public String expendedIconSource;
     public StyleParams.Color backgroundColor;
     public StyleParams.Color collapsedIconColor;
     public StyleParams.Color expendedIconColor;
@@ -23,4 +26,18 @@ public class FabParams {
     public boolean isValid() {
         return collapsedId != null;
     }
+
+    public boolean hasSameCollapsedIcon(FabParams other) {
+        return TextUtils.equals(collapsedIconSource, other.collapsedIconSource) &&
+               collapsedIconColor.equals(other.collapsedIconColor);
+    }
+
+    public boolean hasSameExpendedIcon(FabParams other) {
+        return TextUtils.equals(expendedIconSource, other.expendedIconSource) &&
+               expendedIconColor.equals(other.expendedIconColor);
+    }
+
+    public int getActionCount() {
+        return actions == null ? 0 : actions.size();
+    }
 }
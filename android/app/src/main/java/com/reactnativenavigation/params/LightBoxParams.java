@@ -7,4 +7,5 @@ public class LightBoxParams {
     public boolean tapBackgroundToDismiss;
     public boolean overrideBackPress;
     public int adjustSoftInput;
+    public boolean keepAlive;
 }
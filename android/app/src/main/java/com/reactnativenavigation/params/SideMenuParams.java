@@ -6,4 +6,5 @@ public class SideMenuParams extends BaseScreenParams {
     public boolean disableOpenGesture;
     public SideMenu.Side side;
     public int fixedWidth;
+    public boolean lazy;
 }
@@ -19,4 +19,6 @@ public class SlidingOverlayParams {
     public NavigationParams navigationParams;
     public Integer autoDismissTimerSec;
     public Position position;
+    public String key;
+    public int priority;
 }
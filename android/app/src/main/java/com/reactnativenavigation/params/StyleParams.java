@@ -49,6 +49,19 @@ public class StyleParams {
             return hasColor() ? getColor() : defaultColor;
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Color)) return false;
+            Color other = (Color) o;
+            return color == null ? other.color == null : color.equals(other.color);
+        }
+
+        @Override
+        public int hashCode() {
+            return color == null ? 0 : color;
+        }
+
         @Override
         public String toString() {
             return this.getHexColor();
@@ -100,6 +113,7 @@ public class StyleParams {
     public String topBarReactView;
     public String topBarReactViewAlignment;
     public Bundle topBarReactViewInitialProps;
+    public boolean topBarReactViewShared;
     public CollapsingTopBarParams collapsingTopBarParams;
     public boolean topBarCollapseOnScroll;
     public boolean topBarElevationShadowEnabled;
@@ -138,6 +152,7 @@ public class StyleParams {
     public Color screenBackgroundColor;
 
     public boolean drawScreenAboveBottomTabs;
+    public boolean flatScreenLayout;
 
     public Color snackbarButtonColor;
 
@@ -148,6 +163,7 @@ public class StyleParams {
     public Color selectedBottomTabsButtonColor;
     public Color bottomTabsButtonColor;
     public boolean forceTitlesDisplay;
+    public boolean hibernateHiddenTabs;
     public Color bottomTabBadgeTextColor;
     public Color bottomTabBadgeBackgroundColor;
     public Font bottomTabFontFamily;
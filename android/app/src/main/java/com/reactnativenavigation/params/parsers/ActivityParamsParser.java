@@ -7,6 +7,9 @@ import com.reactnativenavigation.params.AppStyle;
 import com.reactnativenavigation.params.SideMenuParams;
 import com.reactnativenavigation.views.SideMenu;
 
+import java.util.HashSet;
+import java.util.Set;
+
 public class ActivityParamsParser extends Parser {
     public static ActivityParams parse(Bundle params) {
         ActivityParams result = new ActivityParams();
@@ -33,4 +36,22 @@ public class ActivityParamsParser extends Parser {
 
         return result;
     }
+
+    /**
+     * Font families declared by the appStyle and the initial screens, without parsing the rest of the params.
+     */
+    public static Set<String> getDeclaredFontFamilies(Bundle params) {
+        Set<String> result = new HashSet<>();
+        StyleParamsParser.collectFontFamilies(params.getBundle("appStyle"), result);
+        if (hasKey(params, "screen")) {
+            StyleParamsParser.collectFontFamilies(params.getBundle("screen").getBundle("styleParams"), result);
+        }
+        if (hasKey(params, "tabs")) {
+            Bundle tabs = params.getBundle("tabs");
+            for (String key : tabs.keySet()) {
+                StyleParamsParser.collectFontFamilies(tabs.getBundle(key).getBundle("styleParams"), result);
+            }
+        }
+        return result;
+    }
 }
@@ -37,6 +37,7 @@ class CollapsingTopBarParamsParser extends Parser {
         result.showTitleWhenCollapsed = hasReactView;
         result.showTitleWhenExpended = params.getBoolean("showTitleWhenExpended", result.expendedTitleBarColor.hasColor());
         result.collapseBehaviour = getCollapseBehaviour();
+        result.collapseOnNestedScroll = params.getBoolean("collapsingToolBarNestedScrolling");
         return result;
     }
 
@@ -12,11 +12,12 @@ public class FabActionParamsParser extends Parser {
         FabActionParams fabActionParams = new FabActionParams();
         fabActionParams.id = params.getString("id");
         fabActionParams.navigatorEventId = navigatorEventId;
-        fabActionParams.icon = ImageLoader.loadImage(params.getString("icon"));
+        fabActionParams.iconSource = params.getString("icon");
+        fabActionParams.icon = ImageLoader.loadImage(fabActionParams.iconSource);
         fabActionParams.backgroundColor = StyleParams.Color.parse(params, "backgroundColor");
         fabActionParams.iconColor = StyleParams.Color.parse(params, "iconColor");
         if (fabActionParams.iconColor.hasColor()) {
-            ViewUtils.tintDrawable(fabActionParams.icon, fabActionParams.iconColor.getColor(), true);
+            fabActionParams.icon = ViewUtils.tintDrawable(fabActionParams.icon, fabActionParams.iconColor.getColor(), true);
         }
         return fabActionParams;
     }
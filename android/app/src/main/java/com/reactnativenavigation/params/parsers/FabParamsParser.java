@@ -21,12 +21,14 @@ public class FabParamsParser extends Parser {
         fabParams.backgroundColor = getColor(params, "backgroundColor", new StyleParams.Color());
 
         if (hasKey(params, "collapsedIcon")) {
-            fabParams.collapsedIcon = ImageLoader.loadImage(params.getString("collapsedIcon"));
-            tintIcon(fabParams.collapsedIcon, fabParams.collapsedIconColor);
+            fabParams.collapsedIconSource = params.getString("collapsedIcon");
+            fabParams.collapsedIcon = ImageLoader.loadImage(fabParams.collapsedIconSource);
+            fabParams.collapsedIcon = tintIcon(fabParams.collapsedIcon, fabParams.collapsedIconColor);
         }
         if (hasKey(params, "expendedIcon")) {
-            fabParams.expendedIcon = ImageLoader.loadImage(params.getString("expendedIcon"));
-            tintIcon(fabParams.expendedIcon, fabParams.expendedIconColor);
+            fabParams.expendedIconSource = params.getString("expendedIcon");
+            fabParams.expendedIcon = ImageLoader.loadImage(fabParams.expendedIconSource);
+            fabParams.expendedIcon = tintIcon(fabParams.expendedIcon, fabParams.expendedIconColor);
         }
         if (hasKey(params, "actions")) {
             fabParams.actions = parseBundle(params.getBundle("actions"), new ParseStrategy<FabActionParams>() {
@@ -39,9 +41,7 @@ public class FabParamsParser extends Parser {
         return fabParams;
     }
 
-    private void tintIcon(Drawable icon, StyleParams.Color color) {
-        if (color.hasColor()) {
-            ViewUtils.tintDrawable(icon, color.getColor(), true);
-        }
+    private Drawable tintIcon(Drawable icon, StyleParams.Color color) {
+        return color.hasColor() ? ViewUtils.tintDrawable(icon, color.getColor(), true) : icon;
     }
 }
@@ -24,6 +24,7 @@ public class LightBoxParamsParser extends Parser {
         result.tapBackgroundToDismiss = params.getBoolean("tapBackgroundToDismiss");
         result.overrideBackPress = params.getBoolean("overrideBackPress");
         result.adjustSoftInput = Adjustment.fromString(params.getString("adjustSoftInput")).value;
+        result.keepAlive = params.getBoolean("keepAlive");
         return result;
     }
 
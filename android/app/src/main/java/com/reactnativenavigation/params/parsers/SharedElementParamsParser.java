@@ -13,6 +13,7 @@ public class SharedElementParamsParser {
     private Bundle showInterpolation = Bundle.EMPTY;
     private Bundle hideInterpolation = Bundle.EMPTY;
     public boolean animateClipBounds;
+    public boolean snapshot;
 
     public void setDuration(int duration) {
         showDuration = duration;
@@ -40,6 +41,7 @@ public class SharedElementParamsParser {
         result.duration = showDuration;
         result.interpolation = new InterpolationParser(showInterpolation).parseShowInterpolation();
         result.animateClipBounds = animateClipBounds;
+        result.snapshot = snapshot;
         return result;
     }
 
@@ -48,6 +50,7 @@ public class SharedElementParamsParser {
         result.duration = hideDuration;
         result.interpolation = new InterpolationParser(hideInterpolation).parseHideInterpolation();
         result.animateClipBounds = animateClipBounds;
+        result.snapshot = snapshot;
         return result;
     }
 }
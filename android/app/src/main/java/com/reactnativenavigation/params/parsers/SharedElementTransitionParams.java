@@ -6,4 +6,5 @@ public class SharedElementTransitionParams {
     public InterpolationParams interpolation;
     public int duration;
     public boolean animateClipBounds;
+    public boolean snapshot;
 }
@@ -24,6 +24,7 @@ class SideMenuParamsParser extends Parser {
         result.navigationParams = new NavigationParams(sideMenu.getBundle("navigationParams"));
         result.disableOpenGesture = sideMenu.getBoolean("disableOpenGesture", false);
         result.fixedWidth = sideMenu.getInt("fixedWidth", 0);
+        result.lazy = sideMenu.getBoolean("lazy", false);
         result.side = side;
         return result;
     }
@@ -15,6 +15,8 @@ public class SlidingOverlayParamsParser extends Parser {
                 ? bundle.getInt("autoDismissTimerSec")
                 : null;
         result.position = SlidingOverlayParams.Position.fromString(bundle.getString("position", "top"));
+        result.key = bundle.getString("key");
+        result.priority = bundle.getInt("priority");
         return result;
     }
 }
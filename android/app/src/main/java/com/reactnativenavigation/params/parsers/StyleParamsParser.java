@@ -9,7 +9,22 @@ import com.reactnativenavigation.params.StatusBarTextColorScheme;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.utils.ViewUtils;
 
+import java.util.Collection;
+
 public class StyleParamsParser {
+    private static final String TITLE_FONT_KEY = "titleBarTitleFontFamily";
+    private static final String SUBTITLE_FONT_KEY = "titleBarSubtitleFontFamily";
+    private static final String BUTTON_FONT_KEY = "titleBarButtonFontFamily";
+    private static final String TOP_TAB_FONT_KEY = "topTabTextFontFamily";
+    private static final String BOTTOM_TAB_FONT_KEY = "bottomTabFontFamily";
+    private static final String[] FONT_KEYS = {
+            TITLE_FONT_KEY,
+            SUBTITLE_FONT_KEY,
+            BUTTON_FONT_KEY,
+            TOP_TAB_FONT_KEY,
+            BOTTOM_TAB_FONT_KEY
+    };
+
     private Bundle params;
 
     public StyleParamsParser(Bundle params) {
@@ -21,6 +36,18 @@ public class StyleParamsParser {
         return this;
     }
 
+    static void collectFontFamilies(Bundle params, Collection<String> out) {
+        if (params == null) {
+            return;
+        }
+        for (String key : FONT_KEYS) {
+            String font = params.getString(key);
+            if (font != null) {
+                out.add(font);
+            }
+        }
+    }
+
     public StyleParams parse() {
         if (params == null) {
             return createDefaultStyleParams();
@@ -41,10 +68,12 @@ public class StyleParamsParser {
         result.topBarReactView = params.getString("topBarReactView");
         result.topBarReactViewAlignment = params.getString("topBarReactViewAlignment");
         result.topBarReactViewInitialProps = getBundle("topBarReactViewInitialProps");
+        result.topBarReactViewShared = getBoolean("topBarReactViewShared", false);
         result.titleBarHideOnScroll = getBoolean("titleBarHideOnScroll", getDefaultTitleBarHideOnScroll());
         result.topBarTransparent = getBoolean("topBarTransparent", getDefaultTopBarHidden());
         result.topBarCollapseOnScroll = getBoolean("topBarCollapseOnScroll", false);
         result.drawScreenBelowTopBar = params.getBoolean("drawBelowTopBar", getDefaultScreenBelowTopBar());
+        result.flatScreenLayout = getBoolean("flatScreenLayout", getDefaultFlatScreenLayout());
         if (result.topBarTransparent) {
             result.drawScreenBelowTopBar = false;
         }
@@ -58,11 +87,11 @@ public class StyleParamsParser {
 
         result.titleBarSubtitleColor = getColor("titleBarSubtitleColor", getDefaultSubtitleBarColor());
         result.titleBarSubtitleFontSize = getInt("titleBarSubtitleFontSize", getDefaultSubtitleTextFontSize());
-        result.titleBarSubtitleFontFamily = getFont("titleBarSubtitleFontFamily", getDefaultSubtitleFontFamily());
+        result.titleBarSubtitleFontFamily = getFont(SUBTITLE_FONT_KEY, getDefaultSubtitleFontFamily());
         result.titleBarButtonColor = getColor("titleBarButtonColor", getTitleBarButtonColor());
-        result.titleBarButtonFontFamily = getFont("titleBarButtonFontFamily", getDefaultTitleBarButtonFont());
+        result.titleBarButtonFontFamily = getFont(BUTTON_FONT_KEY, getDefaultTitleBarButtonFont());
         result.titleBarDisabledButtonColor = getColor("titleBarDisabledButtonColor", getTitleBarDisabledButtonColor());
-        result.titleBarTitleFont = getFont("titleBarTitleFontFamily", getDefaultTitleTextFontFamily());
+        result.titleBarTitleFont = getFont(TITLE_FONT_KEY, getDefaultTitleTextFontFamily());
         result.titleBarTitleFontSize = getInt("titleBarTitleFontSize", getDefaultTitleTextFontSize());
         result.titleBarTitleFontBold = getBoolean("titleBarTitleFontBold", getDefaultTitleTextFontBold());
         result.titleBarTitleTextCentered = getBoolean("titleBarTitleTextCentered", getDefaultTitleBarTextCentered());
@@ -72,7 +101,7 @@ public class StyleParamsParser {
         result.titleBarTopPadding = getInt("titleBarTopPadding", getTitleBarTopPadding());
 
         result.topTabTextColor = getColor("topTabTextColor", getDefaultTopTabTextColor());
-        result.topTabTextFontFamily = getFont("topTabTextFontFamily", getDefaultTopTabTextFontFamily());
+        result.topTabTextFontFamily = getFont(TOP_TAB_FONT_KEY, getDefaultTopTabTextFontFamily());
         result.topTabIconColor = getColor("topTabIconColor", getDefaultTopTabIconColor());
         result.selectedTopTabIconColor = getColor("selectedTopTabIconColor", getDefaultSelectedTopTabIconColor());
         result.selectedTopTabTextColor = getColor("selectedTopTabTextColor", getDefaultSelectedTopTabTextColor());
@@ -99,8 +128,9 @@ public class StyleParamsParser {
 
         result.navigationBarColor = getColor("navigationBarColor", getDefaultNavigationColor());
         result.forceTitlesDisplay = getBoolean("forceTitlesDisplay", getDefaultForceTitlesDisplay());
+        result.hibernateHiddenTabs = getBoolean("hibernateHiddenTabs", getDefaultHibernateHiddenTabs());
 
-        result.bottomTabFontFamily = getFont("bottomTabFontFamily", getDefaultBottomTabsFontFamily());
+        result.bottomTabFontFamily = getFont(BOTTOM_TAB_FONT_KEY, getDefaultBottomTabsFontFamily());
 
         return result;
     }
@@ -146,6 +176,10 @@ public class StyleParamsParser {
         return new StyleParams.Color(Color.parseColor("#757575"));
     }
 
+    private boolean getDefaultFlatScreenLayout() {
+        return AppStyle.appStyle != null && AppStyle.appStyle.flatScreenLayout;
+    }
+
     private boolean getDefaultDrawScreenAboveBottomTabs() {
         return AppStyle.appStyle == null || AppStyle.appStyle.drawScreenAboveBottomTabs;
     }
@@ -174,6 +208,10 @@ public class StyleParamsParser {
         return AppStyle.appStyle != null && AppStyle.appStyle.forceTitlesDisplay;
     }
 
+    private boolean getDefaultHibernateHiddenTabs() {
+        return AppStyle.appStyle != null && AppStyle.appStyle.hibernateHiddenTabs;
+    }
+
     private StyleParams.Color getDefaultSelectedBottomTabsButtonColor() {
         return AppStyle.appStyle == null ? new StyleParams.Color() : AppStyle.appStyle.selectedBottomTabsButtonColor;
     }
@@ -23,7 +23,8 @@ public class TitleBarButtonParamsParser extends Parser {
         TitleBarButtonParams result = new TitleBarButtonParams();
         result.label = bundle.getString("title");
         if (hasKey(bundle, "icon")) {
-            result.icon = ImageLoader.loadImage(bundle.getString("icon"));
+            result.iconSource = bundle.getString("icon");
+            result.icon = ImageLoader.loadImage(result.iconSource);
         }
         result.color = getColor(bundle, "color", AppStyle.appStyle.titleBarButtonColor);
         result.disabledColor = getColor(bundle, "titleBarDisabledButtonColor", AppStyle.appStyle.titleBarDisabledButtonColor);
@@ -15,6 +15,7 @@ import com.reactnativenavigation.bridge.NavigationReactEventEmitter;
 import com.reactnativenavigation.bridge.NavigationReactPackage;
 import com.reactnativenavigation.events.EventBus;
 import com.reactnativenavigation.events.JsDevReloadEvent;
+import com.reactnativenavigation.utils.StartupTimings;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -112,6 +113,23 @@ public class NavigationReactGateway implements ReactGateway {
 	//TODO temp hack
 	private void onReactContextInitialized() {
 		reactEventEmitter = new NavigationReactEventEmitter(getReactContext());
+		StartupTimings.instance.mark(StartupTimings.Phase.ReactContextCreated);
+		markBundleExecuted(getReactContext());
+	}
+
+	private void markBundleExecuted(final ReactContext context) {
+		context.runOnJSQueueThread(new Runnable() {
+			@Override
+			public void run() {
+				// Native calls made while the bundle executed are queued before this one
+				context.runOnNativeModulesQueueThread(new Runnable() {
+					@Override
+					public void run() {
+						StartupTimings.instance.mark(StartupTimings.Phase.BundleExecuted);
+					}
+				});
+			}
+		});
 	}
 
 	private static class ReactNativeHostImpl extends ReactNativeHost implements ReactInstanceManager.ReactInstanceEventListener {
@@ -1,41 +1,83 @@
 package com.reactnativenavigation.react;// Copyright 2004-present Facebook. All Rights Reserved.
 
+import android.content.ComponentCallbacks;
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
 
 import com.facebook.common.util.UriUtil;
 
-import java.util.HashMap;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.Nullable;
 
 /**
- * Direct copy paste from react-native, because they made that class package scope. -_-"
- * Can be deleted in react-native ^0.29
+ * Originally a copy of react-native's helper, which is package scoped.
+ * Names are resolved from an index of the app's R.drawable class which is built once in the background;
+ * until it's ready, or if a name is missing from it, lookups fall back to {@link android.content.res.Resources#getIdentifier}.
+ * Loaded drawable states are cached by id until the configuration changes, since a new night mode or density may
+ * resolve the same id to a different drawable.
  */
 public class ResourceDrawableIdHelper {
     public static final ResourceDrawableIdHelper instance = new ResourceDrawableIdHelper();
 
-    private Map<String, Integer> mResourceDrawableIdMap;
+    private final Map<String, Integer> mResourceDrawableIdMap = new ConcurrentHashMap<>();
+    private final Map<Integer, Drawable.ConstantState> mDrawableStates = new ConcurrentHashMap<>();
+    private final AtomicBoolean mIndexRequested = new AtomicBoolean();
+    private volatile Map<String, Integer> mDrawableIndex;
 
     public ResourceDrawableIdHelper() {
-        mResourceDrawableIdMap = new HashMap<>();
+    }
+
+    /**
+     * Builds the name to id index on a background thread. Safe to call more than once.
+     */
+    public void buildIndexInBackground(final Context context) {
+        if (!mIndexRequested.compareAndSet(false, true)) {
+            return;
+        }
+        final Context appContext = context.getApplicationContext();
+        appContext.registerComponentCallbacks(new ComponentCallbacks() {
+            @Override
+            public void onConfigurationChanged(Configuration newConfig) {
+                mDrawableStates.clear();
+            }
+
+            @Override
+            public void onLowMemory() {
+
+            }
+        });
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                mDrawableIndex = buildIndex(appContext);
+            }
+        }, "rnn-drawable-index");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.setDaemon(true);
+        thread.start();
     }
 
     public int getResourceDrawableId(Context context, @Nullable String name) {
         if (name == null || name.isEmpty()) {
             return 0;
         }
-        name = name.toLowerCase().replace("-", "_");
-        if (mResourceDrawableIdMap.containsKey(name)) {
-            return mResourceDrawableIdMap.get(name);
+        Integer cached = mResourceDrawableIdMap.get(name);
+        if (cached != null) {
+            return cached;
         }
-        int id = context.getResources().getIdentifier(
-                name,
-                "drawable",
-                context.getPackageName());
+        buildIndexInBackground(context);
+        int id = resolve(context, name.toLowerCase().replace("-", "_"));
         mResourceDrawableIdMap.put(name, id);
         return id;
     }
@@ -43,7 +85,18 @@ public class ResourceDrawableIdHelper {
     @Nullable
     public Drawable getResourceDrawable(Context context, @Nullable String name) {
         int resId = getResourceDrawableId(context, name);
-        return resId > 0 ? context.getResources().getDrawable(resId) : null;
+        if (resId <= 0) {
+            return null;
+        }
+        Drawable.ConstantState state = mDrawableStates.get(resId);
+        if (state != null) {
+            return state.newDrawable(context.getResources());
+        }
+        Drawable result = context.getResources().getDrawable(resId);
+        if (result != null && result.getConstantState() != null) {
+            mDrawableStates.put(resId, result.getConstantState());
+        }
+        return result;
     }
 
     public Uri getResourceDrawableUri(Context context, @Nullable String name) {
@@ -53,4 +106,62 @@ public class ResourceDrawableIdHelper {
                 .path(String.valueOf(resId))
                 .build() : Uri.EMPTY;
     }
+
+    private int resolve(Context context, String name) {
+        Map<String, Integer> index = mDrawableIndex;
+        if (index != null) {
+            Integer id = index.get(name);
+            if (id != null) {
+                return id;
+            }
+        }
+        return context.getResources().getIdentifier(name, "drawable", context.getPackageName());
+    }
+
+    /**
+     * @return the index of the app's R.drawable class, or null if the class can't be found, in which case names are
+     * resolved with getIdentifier
+     */
+    @Nullable
+    private static Map<String, Integer> buildIndex(Context context) {
+        for (String rPackage : getRPackageCandidates(context)) {
+            try {
+                Class<?> drawables = Class.forName(rPackage + ".R$drawable");
+                Map<String, Integer> result = new ConcurrentHashMap<>();
+                for (Field field : drawables.getFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) && field.getType() == int.class) {
+                        result.put(field.getName(), field.getInt(null));
+                    }
+                }
+                return result;
+            } catch (ClassNotFoundException | IllegalAccessException ignored) {
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The R class is generated in the manifest package, which differs from the package name when the build sets an
+     * applicationId or a suffix. The likely packages are tried in order: the one the app's own resources are named
+     * after, the Application class's package and finally the package name.
+     */
+    private static Set<String> getRPackageCandidates(Context context) {
+        Set<String> result = new LinkedHashSet<>();
+        ApplicationInfo info = context.getApplicationInfo();
+        Resources resources = context.getResources();
+        for (int resId : new int[]{info.icon, info.labelRes, info.theme}) {
+            if (resId != 0) {
+                try {
+                    result.add(resources.getResourcePackageName(resId));
+                } catch (Resources.NotFoundException ignored) {
+                }
+            }
+        }
+        Package applicationPackage = context.getClass().getPackage();
+        if (applicationPackage != null) {
+            result.add(applicationPackage.getName());
+        }
+        result.add(context.getPackageName());
+        return result;
+    }
 }
@@ -1,5 +1,6 @@
 package com.reactnativenavigation.screens;
 
+import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.view.MotionEvent;
 import android.widget.ScrollView;
@@ -14,12 +15,14 @@ import com.reactnativenavigation.views.collapsingToolbar.CollapseCalculator;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingTopBar;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingView;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingViewMeasurer;
+import com.reactnativenavigation.views.collapsingToolbar.NestedScrollCollapser;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollListener;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollViewAddedListener;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollListener;
 import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBehaviour;
 
 public class CollapsingSingleScreen extends SingleScreen {
+    private @Nullable NestedScrollCollapser nestedScrollCollapser;
 
     public CollapsingSingleScreen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener titleBarBarBackButtonListener) {
         super(activity, screenParams, titleBarBarBackButtonListener);
@@ -29,6 +32,14 @@ public class CollapsingSingleScreen extends SingleScreen {
     public void destroy() {
         super.destroy();
         ((CollapsingContentView) contentView).destroy();
+        if (nestedScrollCollapser != null) {
+            nestedScrollCollapser.destroy();
+        }
+    }
+
+    @Override
+    protected boolean canUseFlatLayout() {
+        return false;
     }
 
     @Override
@@ -58,10 +69,33 @@ public class CollapsingSingleScreen extends SingleScreen {
     }
 
     private void setupCollapseDetection(final CollapsingTopBar topBar) {
+        if (useNestedScrolling()) {
+            nestedScrollCollapser = createNestedScrollCollapser(topBar);
+            ((CollapsingContentView) contentView).setNestedScrollCollapser(nestedScrollCollapser);
+        }
         ((CollapsingContentView) contentView).setupCollapseDetection(getScrollListener(topBar), new OnScrollViewAddedListener() {
             @Override
             public void onScrollViewAdded(ScrollView scrollView) {
                 topBar.onScrollViewAdded(scrollView);
+                if (nestedScrollCollapser != null) {
+                    nestedScrollCollapser.onScrollViewAdded(scrollView);
+                }
+            }
+        });
+    }
+
+    private boolean useNestedScrolling() {
+        return screenParams.styleParams.collapsingTopBarParams.collapseOnNestedScroll && NestedScrollCollapser.isSupported();
+    }
+
+    private NestedScrollCollapser createNestedScrollCollapser(final CollapsingTopBar topBar) {
+        return new NestedScrollCollapser(topBar, getCollapseBehaviour(), new NestedScrollCollapser.OnCollapseListener() {
+            @Override
+            public void onCollapse(CollapseAmount amount) {
+                if (screenParams.styleParams.drawScreenBelowTopBar) {
+                    ((CollapsingView) contentView).collapse(amount);
+                }
+                topBar.collapse(amount);
             }
         });
     }
@@ -2,6 +2,7 @@ package com.reactnativenavigation.screens;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.support.annotation.Nullable;
 import android.support.v4.view.ViewPager;
 import android.support.v7.app.AppCompatActivity;
 import android.view.MotionEvent;
@@ -24,6 +25,7 @@ import com.reactnativenavigation.views.collapsingToolbar.CollapsingView;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingViewMeasurer;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingViewPager;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingViewPagerContentViewMeasurer;
+import com.reactnativenavigation.views.collapsingToolbar.NestedScrollCollapser;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollListener;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollViewAddedListener;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollListener;
@@ -31,6 +33,8 @@ import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBeha
 
 @SuppressLint("ViewConstructor")
 public class CollapsingViewPagerScreen extends ViewPagerScreen {
+    private @Nullable NestedScrollCollapser nestedScrollCollapser;
+
     public CollapsingViewPagerScreen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener backButtonListener) {
         super(activity, screenParams, backButtonListener);
     }
@@ -59,15 +63,38 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
     }
 
     private void setupCollapseDetection(CollapsingContentView contentView) {
+        if (useNestedScrolling()) {
+            contentView.setNestedScrollCollapser(getNestedScrollCollapser());
+        }
         ScrollListener scrollListener = getScrollListener((CollapsingView) topBar);
         contentView.setupCollapseDetection(scrollListener, new OnScrollViewAddedListener() {
             @Override
             public void onScrollViewAdded(ScrollView scrollView) {
                 ((CollapsingTopBar) topBar).onScrollViewAdded(scrollView);
+                if (nestedScrollCollapser != null) {
+                    nestedScrollCollapser.onScrollViewAdded(scrollView);
+                }
             }
         });
     }
 
+    private boolean useNestedScrolling() {
+        return screenParams.styleParams.collapsingTopBarParams.collapseOnNestedScroll && NestedScrollCollapser.isSupported();
+    }
+
+    private NestedScrollCollapser getNestedScrollCollapser() {
+        if (nestedScrollCollapser == null) {
+            nestedScrollCollapser = new NestedScrollCollapser((CollapsingView) topBar, getCollapseBehaviour(), new NestedScrollCollapser.OnCollapseListener() {
+                @Override
+                public void onCollapse(CollapseAmount amount) {
+                    ((CollapsingView) topBar).collapse(amount);
+                    ((CollapsingView) viewPager).collapse(amount);
+                }
+            });
+        }
+        return nestedScrollCollapser;
+    }
+
     private ScrollListener getScrollListener(final CollapsingView topBar) {
         return new ScrollListener(new CollapseCalculator(topBar, getCollapseBehaviour()),
                 new OnScrollListener() {
@@ -111,6 +138,9 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
                 ((CollapsingContentView) contentView).destroy();
             }
         }
+        if (nestedScrollCollapser != null) {
+            nestedScrollCollapser.destroy();
+        }
     }
 
     protected ContentView getCurrentPage() {
@@ -0,0 +1,67 @@
+package com.reactnativenavigation.screens;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.RelativeLayout;
+
+/**
+ * Measures and lays out a screen's top bar and content in a single pass. RelativeLayout measures every child twice
+ * to resolve its rules, though the only rule screens use is placing the content below the top bar.
+ * Children other than the top bar are placed at the top of the screen, or below the top bar if they have a
+ * {@link RelativeLayout#BELOW} rule for it.
+ */
+class FlatScreenLayout {
+
+    /**
+     * Measures the children for the given exact specs. The caller sets its own measured dimension.
+     */
+    static void measure(RelativeLayout parent, View topBar, int widthMeasureSpec, int heightMeasureSpec) {
+        int topBarHeight = 0;
+        if (topBar.getVisibility() != View.GONE) {
+            measureChild(parent, topBar, widthMeasureSpec, heightMeasureSpec, 0);
+            RelativeLayout.LayoutParams lp = (RelativeLayout.LayoutParams) topBar.getLayoutParams();
+            topBarHeight = topBar.getMeasuredHeight() + lp.topMargin + lp.bottomMargin;
+        }
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            if (child != topBar && child.getVisibility() != View.GONE) {
+                measureChild(parent, child, widthMeasureSpec, heightMeasureSpec, isBelowTopBar(child, topBar) ? topBarHeight : 0);
+            }
+        }
+    }
+
+    static void layout(RelativeLayout parent, View topBar) {
+        int top = parent.getPaddingTop();
+        int topBarBottom = top;
+        if (topBar.getVisibility() != View.GONE) {
+            topBarBottom = layoutChild(parent, topBar, top) + ((RelativeLayout.LayoutParams) topBar.getLayoutParams()).bottomMargin;
+        }
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            View child = parent.getChildAt(i);
+            if (child != topBar && child.getVisibility() != View.GONE) {
+                layoutChild(parent, child, isBelowTopBar(child, topBar) ? topBarBottom : top);
+            }
+        }
+    }
+
+    private static void measureChild(ViewGroup parent, View child, int widthMeasureSpec, int heightMeasureSpec, int heightUsed) {
+        ViewGroup.MarginLayoutParams lp = (ViewGroup.MarginLayoutParams) child.getLayoutParams();
+        int childWidthMeasureSpec = ViewGroup.getChildMeasureSpec(widthMeasureSpec,
+                parent.getPaddingLeft() + parent.getPaddingRight() + lp.leftMargin + lp.rightMargin, lp.width);
+        int childHeightMeasureSpec = ViewGroup.getChildMeasureSpec(heightMeasureSpec,
+                parent.getPaddingTop() + parent.getPaddingBottom() + lp.topMargin + lp.bottomMargin + heightUsed, lp.height);
+        child.measure(childWidthMeasureSpec, childHeightMeasureSpec);
+    }
+
+    private static int layoutChild(ViewGroup parent, View child, int top) {
+        ViewGroup.MarginLayoutParams lp = (ViewGroup.MarginLayoutParams) child.getLayoutParams();
+        int childLeft = parent.getPaddingLeft() + lp.leftMargin;
+        int childTop = top + lp.topMargin;
+        child.layout(childLeft, childTop, childLeft + child.getMeasuredWidth(), childTop + child.getMeasuredHeight());
+        return child.getBottom();
+    }
+
+    private static boolean isBelowTopBar(View child, View topBar) {
+        return ((RelativeLayout.LayoutParams) child.getLayoutParams()).getRules()[RelativeLayout.BELOW] == topBar.getId();
+    }
+}
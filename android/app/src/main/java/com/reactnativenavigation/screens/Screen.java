@@ -51,6 +51,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     private ScreenAnimator screenAnimator;
     protected StyleParams styleParams;
     public final SharedElements sharedElements;
+    private boolean isMeasuredFlat;
 
     public Screen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener leftButtonOnClickListener) {
         super(activity);
@@ -114,6 +115,40 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         }
     }
 
+    /**
+     * @return true if the screen only has the top bar and content positioned at the top or below the top bar, so it
+     * can be laid out with {@link StyleParams#flatScreenLayout}
+     */
+    protected boolean canUseFlatLayout() {
+        return true;
+    }
+
+    /**
+     * With flatScreenLayout the top bar and the content are measured and laid out in a single pass by
+     * {@link FlatScreenLayout} instead of RelativeLayout.
+     */
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        isMeasuredFlat = styleParams.flatScreenLayout && canUseFlatLayout() &&
+                         MeasureSpec.getMode(widthMeasureSpec) == MeasureSpec.EXACTLY &&
+                         MeasureSpec.getMode(heightMeasureSpec) == MeasureSpec.EXACTLY;
+        if (!isMeasuredFlat) {
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+            return;
+        }
+        FlatScreenLayout.measure(this, topBar, widthMeasureSpec, heightMeasureSpec);
+        setMeasuredDimension(MeasureSpec.getSize(widthMeasureSpec), MeasureSpec.getSize(heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        if (isMeasuredFlat) {
+            FlatScreenLayout.layout(this, topBar);
+        } else {
+            super.onLayout(changed, l, t, r, b);
+        }
+    }
+
     public void updateBottomTabsVisibility(boolean hidden) {
         styleParams.bottomTabsHidden = hidden;
     }
@@ -17,7 +17,7 @@ import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
-import com.reactnativenavigation.utils.KeyboardVisibilityDetector;
+import com.reactnativenavigation.utils.KeyboardVisibilityService;
 import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 
@@ -35,8 +35,10 @@ public class ScreenStack {
     private RelativeLayout parent;
     private LeftButtonOnClickListener leftButtonOnClickListener;
     private Stack<Screen> stack = new Stack<>();
-    private final KeyboardVisibilityDetector keyboardVisibilityDetector;
+    @Nullable private PendingPop pendingPop;
     private boolean isStackVisible = false;
+    private boolean hibernateWhenHidden = false;
+    private int hibernatedScreenIndex = -1;
     private final String navigatorId;
 
     public String getNavigatorId() {
@@ -51,7 +53,14 @@ public class ScreenStack {
         this.parent = parent;
         this.navigatorId = navigatorId;
         this.leftButtonOnClickListener = leftButtonOnClickListener;
-        keyboardVisibilityDetector = new KeyboardVisibilityDetector(parent);
+    }
+
+    /**
+     * When enabled, the top screen of a hidden stack is detached from its parent once it has been displayed, so it
+     * isn't measured, laid out or drawn until the stack is shown again. Must be set before the initial screen is pushed.
+     */
+    public void setHibernateWhenHidden(boolean hibernateWhenHidden) {
+        this.hibernateWhenHidden = hibernateWhenHidden;
     }
 
     public void newStack(final ScreenParams params, LayoutParams layoutParams) {
@@ -93,8 +102,16 @@ public class ScreenStack {
     }
 
     public void pushInitialScreen(ScreenParams initialScreenParams, LayoutParams params) {
-        Screen initialScreen = ScreenFactory.create(activity, initialScreenParams, leftButtonOnClickListener);
+        final Screen initialScreen = ScreenFactory.create(activity, initialScreenParams, leftButtonOnClickListener);
         initialScreen.setVisibility(View.INVISIBLE);
+        if (hibernateWhenHidden) {
+            initialScreen.setOnDisplayListener(new Screen.OnDisplayListener() {
+                @Override
+                public void onDisplay() {
+                    hibernateIfHidden(initialScreen);
+                }
+            });
+        }
         addScreen(initialScreen, params);
     }
 
@@ -159,13 +176,14 @@ public class ScreenStack {
         addScreen(nextScreen, layoutParams);
     }
 
-    private void pushScreenToInvisibleStack(LayoutParams layoutParams, Screen nextScreen, Screen previousScreen,
+    private void pushScreenToInvisibleStack(LayoutParams layoutParams, final Screen nextScreen, Screen previousScreen,
                                             @Nullable final Promise onPushComplete) {
         nextScreen.setVisibility(View.INVISIBLE);
         nextScreen.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
                 if (onPushComplete != null) onPushComplete.resolve(null);
+                hibernateIfHidden(nextScreen);
             }
         });
         addScreen(nextScreen, layoutParams);
@@ -186,21 +204,39 @@ public class ScreenStack {
     }
 
     public void pop(final boolean animated, final double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
-        if (!canPop()) {
+        if (!canPop() || pendingPop != null) {
             return;
         }
-        if (keyboardVisibilityDetector.isKeyboardVisible()) {
-            keyboardVisibilityDetector.setKeyboardCloseListener(new Runnable() {
-                @Override
-                public void run() {
-                    keyboardVisibilityDetector.setKeyboardCloseListener(null);
-                    popInternal(animated, jsPopTimestamp, onScreenPop);
-                }
-            });
-            keyboardVisibilityDetector.closeKeyboard();
-        } else {
-            popInternal(animated, jsPopTimestamp, onScreenPop);
+        popWhenKeyboardClosed(new PendingPop() {
+            @Override
+            void pop() {
+                popInternal(animated, jsPopTimestamp, onScreenPop);
+            }
+        });
+    }
+
+    private void popWhenKeyboardClosed(PendingPop pop) {
+        pendingPop = pop;
+        KeyboardVisibilityService.closeKeyboard(parent, pop);
+    }
+
+    /**
+     * A pop waiting for the keyboard to close. Only the latest one runs, and only if the stack can still be popped
+     * by then, since it may have been popped or destroyed in the meantime.
+     */
+    private abstract class PendingPop implements Runnable {
+        @Override
+        public void run() {
+            if (pendingPop != this) {
+                return;
+            }
+            pendingPop = null;
+            if (canPop()) {
+                pop();
+            }
         }
+
+        abstract void pop();
     }
 
     private void popInternal(final boolean animated, double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
@@ -241,23 +277,20 @@ public class ScreenStack {
     }
 
     private void readdPrevious(Screen previous) {
+        if (isHibernating()) {
+            return;
+        }
         previous.setVisibility(View.VISIBLE);
         parent.addView(previous, 0);
     }
 
     public void popToRoot(final boolean animated, final double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
-        if (keyboardVisibilityDetector.isKeyboardVisible()) {
-            keyboardVisibilityDetector.setKeyboardCloseListener(new Runnable() {
-                @Override
-                public void run() {
-                    keyboardVisibilityDetector.setKeyboardCloseListener(null);
-                    popToRootInternal(animated, jsPopTimestamp, onScreenPop);
-                }
-            });
-            keyboardVisibilityDetector.closeKeyboard();
-        } else {
-            popToRootInternal(animated, jsPopTimestamp, onScreenPop);
-        }
+        popWhenKeyboardClosed(new PendingPop() {
+            @Override
+            void pop() {
+                popToRootInternal(animated, jsPopTimestamp, onScreenPop);
+            }
+        });
     }
 
     private void popToRootInternal(final boolean animated, double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
@@ -271,6 +304,7 @@ public class ScreenStack {
     }
 
     public void destroy() {
+        pendingPop = null;
         for (Screen screen : stack) {
             screen.destroy();
             parent.removeView(screen);
@@ -427,6 +461,9 @@ public class ScreenStack {
 
     public void show(NavigationType type) {
         isStackVisible = true;
+        if (hibernateWhenHidden) {
+            wakeUp();
+        }
         stack.peek().setStyle();
         stack.peek().setVisibility(View.VISIBLE);
         sendScreenAppearEvent(type, stack.peek());
@@ -461,5 +498,30 @@ public class ScreenStack {
         NavigationApplication.instance.getEventEmitter().sendDidDisappearEvent(stack.peek().getScreenParams(), type);
         isStackVisible = false;
         stack.peek().setVisibility(View.INVISIBLE);
+        if (hibernateWhenHidden) {
+            hibernateIfHidden(stack.peek());
+        }
+    }
+
+    private boolean isHibernating() {
+        return hibernateWhenHidden && !isStackVisible;
+    }
+
+    private void hibernateIfHidden(Screen screen) {
+        if (!isHibernating() || stack.isEmpty() || stack.peek() != screen || screen.getParent() != parent) {
+            return;
+        }
+        hibernatedScreenIndex = parent.indexOfChild(screen);
+        parent.removeView(screen);
+    }
+
+    private void wakeUp() {
+        Screen screen = stack.peek();
+        if (screen.getParent() != null) {
+            return;
+        }
+        int beforeSnackbarAndFabLayout = parent.getChildCount() - 1;
+        int index = hibernatedScreenIndex < 0 ? beforeSnackbarAndFabLayout : Math.min(hibernatedScreenIndex, beforeSnackbarAndFabLayout);
+        parent.addView(screen, index);
     }
 }
@@ -0,0 +1,45 @@
+package com.reactnativenavigation.utils;
+
+import android.app.Activity;
+import android.content.res.Configuration;
+import android.util.DisplayMetrics;
+
+/**
+ * Caches the window size so sizing code doesn't query the WindowManager every time. The cached size is validated
+ * against the activity's current configuration, so rotation and multi window or freeform resizing, which only change
+ * the activity's configuration, are picked up on the next call.
+ */
+public class DisplayMetricsProvider {
+    private static int width;
+    private static int height;
+    private static int screenWidthDp;
+    private static int screenHeightDp;
+    private static int orientation;
+    private static boolean isValid;
+
+    public static synchronized int getWindowWidth(Activity activity) {
+        update(activity);
+        return width;
+    }
+
+    public static synchronized int getWindowHeight(Activity activity) {
+        update(activity);
+        return height;
+    }
+
+    private static void update(Activity activity) {
+        Configuration config = activity.getResources().getConfiguration();
+        if (isValid && config.screenWidthDp == screenWidthDp && config.screenHeightDp == screenHeightDp &&
+            config.orientation == orientation) {
+            return;
+        }
+        DisplayMetrics metrics = new DisplayMetrics();
+        activity.getWindowManager().getDefaultDisplay().getMetrics(metrics);
+        width = metrics.widthPixels;
+        height = metrics.heightPixels;
+        screenWidthDp = config.screenWidthDp;
+        screenHeightDp = config.screenHeightDp;
+        orientation = config.orientation;
+        isValid = true;
+    }
+}
@@ -0,0 +1,148 @@
+package com.reactnativenavigation.utils;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.support.annotation.Nullable;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.view.inputmethod.InputMethodManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks soft keyboard visibility for a window. There's a single instance per window, shared by every screen stack
+ * in it, which computes visibility once per layout pass. Tasks waiting for the keyboard to close run after the layout
+ * pass which reports it hidden, or after {@link #KEYBOARD_CLOSE_TIMEOUT} if that pass never comes.
+ * Must be used from the main thread.
+ */
+public class KeyboardVisibilityService implements ViewTreeObserver.OnGlobalLayoutListener, View.OnAttachStateChangeListener {
+    // 0.15 ratio is perhaps enough to determine keypad height.
+    public static final double KEYBOARD_VISIBLE_RATIO = 0.15;
+    private static final int KEYBOARD_CLOSE_TIMEOUT = 500;
+
+    private static final Map<View, KeyboardVisibilityService> services = new WeakHashMap<>();
+
+    private final View root;
+    private final Rect visibleFrame = new Rect();
+    private final List<Runnable> pendingOnKeyboardHidden = new ArrayList<>();
+    private final Runnable runPendingOnKeyboardHidden = new Runnable() {
+        @Override
+        public void run() {
+            if (!isVisible) {
+                runPendingOnKeyboardHidden();
+            }
+        }
+    };
+    private final Runnable onKeyboardCloseTimeout = new Runnable() {
+        @Override
+        public void run() {
+            runPendingOnKeyboardHidden();
+        }
+    };
+    private boolean isVisible;
+
+    /**
+     * @return the service of the window the view is attached to, or null if the view isn't attached to a window
+     */
+    @Nullable
+    public static KeyboardVisibilityService get(View view) {
+        if (view.getWindowToken() == null) {
+            return null;
+        }
+        View root = view.getRootView();
+        KeyboardVisibilityService result = services.get(root);
+        if (result == null) {
+            result = new KeyboardVisibilityService(root);
+            services.put(root, result);
+        }
+        return result;
+    }
+
+    /**
+     * Closes the keyboard of the view's window and runs the task once it's hidden. The task runs right away if the
+     * keyboard isn't visible or the view isn't attached to a window.
+     */
+    public static void closeKeyboard(View view, Runnable onKeyboardHidden) {
+        KeyboardVisibilityService service = get(view);
+        if (service == null) {
+            onKeyboardHidden.run();
+        } else {
+            service.closeKeyboard(onKeyboardHidden);
+        }
+    }
+
+    private KeyboardVisibilityService(View root) {
+        this.root = root;
+        isVisible = computeKeyboardVisible();
+        root.getViewTreeObserver().addOnGlobalLayoutListener(this);
+        root.addOnAttachStateChangeListener(this);
+    }
+
+    public void closeKeyboard(Runnable onKeyboardHidden) {
+        if (!isVisible) {
+            onKeyboardHidden.run();
+            return;
+        }
+        if (!pendingOnKeyboardHidden.contains(onKeyboardHidden)) {
+            pendingOnKeyboardHidden.add(onKeyboardHidden);
+        }
+        root.removeCallbacks(onKeyboardCloseTimeout);
+        root.postDelayed(onKeyboardCloseTimeout, KEYBOARD_CLOSE_TIMEOUT);
+        InputMethodManager imm = (InputMethodManager) root.getContext().getSystemService(Context.INPUT_METHOD_SERVICE);
+        imm.hideSoftInputFromWindow(root.getWindowToken(), 0);
+    }
+
+    @Override
+    public void onGlobalLayout() {
+        boolean visible = computeKeyboardVisible();
+        if (visible == isVisible) {
+            return;
+        }
+        isVisible = visible;
+        if (!visible && !pendingOnKeyboardHidden.isEmpty()) {
+            // Let the layout pass which hid the keyboard finish before the tasks change the hierarchy
+            root.post(runPendingOnKeyboardHidden);
+        }
+    }
+
+    private void runPendingOnKeyboardHidden() {
+        root.removeCallbacks(onKeyboardCloseTimeout);
+        if (pendingOnKeyboardHidden.isEmpty()) {
+            return;
+        }
+        Runnable[] tasks = pendingOnKeyboardHidden.toArray(new Runnable[pendingOnKeyboardHidden.size()]);
+        pendingOnKeyboardHidden.clear();
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    @Override
+    public void onViewAttachedToWindow(View v) {
+
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(View v) {
+        root.getViewTreeObserver().removeOnGlobalLayoutListener(this);
+        root.removeOnAttachStateChangeListener(this);
+        root.removeCallbacks(runPendingOnKeyboardHidden);
+        root.removeCallbacks(onKeyboardCloseTimeout);
+        services.remove(root);
+        pendingOnKeyboardHidden.clear();
+    }
+
+    private boolean computeKeyboardVisible() {
+        int rootHeight = root.getHeight();
+        return rootHeight > 0 && getKeyboardHeight() > rootHeight * KEYBOARD_VISIBLE_RATIO;
+    }
+
+    private int getKeyboardHeight() {
+        // The visible frame shrinks by the keyboard whether the window resizes, pans or ignores it
+        root.getWindowVisibleDisplayFrame(visibleFrame);
+        return root.getHeight() - visibleFrame.bottom;
+    }
+}
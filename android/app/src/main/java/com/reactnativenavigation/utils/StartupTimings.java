@@ -0,0 +1,101 @@
+package com.reactnativenavigation.utils;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.SystemClock;
+
+import com.reactnativenavigation.NavigationApplication;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records when each cold start phase was first reached, in {@link SystemClock#elapsedRealtime()} millis.
+ */
+public class StartupTimings {
+    public enum Phase {
+        ProcessStart,
+        ReactContextCreated,
+        BundleExecuted,
+        StartAppReceived,
+        FirstScreenDisplayed
+    }
+
+    public static final StartupTimings instance = new StartupTimings();
+
+    private final Map<Phase, Long> timestamps = new EnumMap<>(Phase.class);
+    private final Map<Phase, List<Runnable>> pendingCallbacks = new EnumMap<>(Phase.class);
+
+    public void markProcessStart() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            mark(Phase.ProcessStart, Process.getStartElapsedRealtime());
+        } else {
+            mark(Phase.ProcessStart, SystemClock.elapsedRealtime());
+        }
+    }
+
+    public void mark(Phase phase) {
+        mark(phase, SystemClock.elapsedRealtime());
+    }
+
+    private void mark(Phase phase, long timestamp) {
+        List<Runnable> callbacks;
+        synchronized (this) {
+            if (timestamps.containsKey(phase)) {
+                return;
+            }
+            timestamps.put(phase, timestamp);
+            callbacks = pendingCallbacks.remove(phase);
+        }
+        if (callbacks != null) {
+            for (Runnable callback : callbacks) {
+                NavigationApplication.instance.runOnMainThread(callback);
+            }
+        }
+    }
+
+    public synchronized boolean isReached(Phase phase) {
+        return timestamps.containsKey(phase);
+    }
+
+    /**
+     * @return the time the phase was reached, or -1 if it wasn't reached yet
+     */
+    public synchronized long getTimestamp(Phase phase) {
+        Long result = timestamps.get(phase);
+        return result == null ? -1 : result;
+    }
+
+    /**
+     * @return millis from process start until the phase was reached, or -1 if it wasn't reached yet
+     */
+    public synchronized long getElapsedSinceProcessStart(Phase phase) {
+        long start = getTimestamp(Phase.ProcessStart);
+        long end = getTimestamp(phase);
+        return start == -1 || end == -1 ? -1 : end - start;
+    }
+
+    public synchronized Map<Phase, Long> getTimestamps() {
+        return new EnumMap<>(timestamps);
+    }
+
+    /**
+     * Runs the callback on the main thread once the phase is reached, or right away if it already was.
+     */
+    public void runWhenReached(Phase phase, Runnable callback) {
+        synchronized (this) {
+            if (!timestamps.containsKey(phase)) {
+                List<Runnable> callbacks = pendingCallbacks.get(phase);
+                if (callbacks == null) {
+                    callbacks = new ArrayList<>();
+                    pendingCallbacks.put(phase, callbacks);
+                }
+                callbacks.add(callback);
+                return;
+            }
+        }
+        NavigationApplication.instance.runOnMainThread(callback);
+    }
+}
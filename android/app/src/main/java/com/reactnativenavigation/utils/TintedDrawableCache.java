@@ -0,0 +1,87 @@
+package com.reactnativenavigation.utils;
+
+import android.content.res.Resources;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.ColorInt;
+import android.support.annotation.NonNull;
+import android.util.SparseArray;
+
+import com.reactnativenavigation.NavigationApplication;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Hands out tinted copies of drawables. Copies are created from the source's {@link Drawable.ConstantState}
+ * and mutated once per (source, color), so they share bitmap memory with the source without the tint leaking
+ * into other users of the same drawable. Copies with the same tint share a single mutated state, so changing
+ * one of them, e.g. with setAlpha, changes all of them. Drawables without a constant state can't be copied; they are
+ * mutated and tinted in place.
+ */
+public class TintedDrawableCache {
+    private static final Map<Drawable.ConstantState, SparseArray<Drawable.ConstantState>> tintedStates = new WeakHashMap<>();
+    private static final Map<Drawable.ConstantState, WeakReference<Drawable.ConstantState>> sources = new WeakHashMap<>();
+    private static final SparseArray<PorterDuffColorFilter> colorFilters = new SparseArray<>();
+
+    /**
+     * @return a drawable tinted with the given color. If the drawable already has that tint, or has no constant state
+     * to copy, the given drawable itself is returned and in the latter case tinted.
+     */
+    public static synchronized Drawable get(@NonNull Drawable drawable, @ColorInt int color) {
+        Drawable.ConstantState state = drawable.getConstantState();
+        if (state == null) {
+            Drawable result = drawable.mutate();
+            result.setColorFilter(getColorFilter(color));
+            return result;
+        }
+
+        Drawable.ConstantState source = getSource(state);
+        SparseArray<Drawable.ConstantState> tints = tintedStates.get(source);
+        if (tints == null) {
+            tints = new SparseArray<>();
+            tintedStates.put(source, tints);
+        }
+
+        Drawable.ConstantState tinted = tints.get(color);
+        if (tinted == state) {
+            return drawable;
+        }
+        if (tinted != null) {
+            // Some drawables, like VectorDrawable, keep the color filter on the instance rather than in its state
+            Drawable result = tinted.newDrawable(getResources());
+            result.setColorFilter(getColorFilter(color));
+            return result;
+        }
+
+        Drawable result = source.newDrawable(getResources()).mutate();
+        result.setColorFilter(getColorFilter(color));
+        tinted = result.getConstantState();
+        if (tinted != null) {
+            tints.put(color, tinted);
+            sources.put(tinted, new WeakReference<>(source));
+        }
+        return result;
+    }
+
+    public static synchronized PorterDuffColorFilter getColorFilter(@ColorInt int color) {
+        PorterDuffColorFilter result = colorFilters.get(color);
+        if (result == null) {
+            result = new PorterDuffColorFilter(color, PorterDuff.Mode.SRC_IN);
+            colorFilters.put(color, result);
+        }
+        return result;
+    }
+
+    private static Drawable.ConstantState getSource(Drawable.ConstantState state) {
+        WeakReference<Drawable.ConstantState> source = sources.get(state);
+        Drawable.ConstantState result = source == null ? null : source.get();
+        return result == null ? state : result;
+    }
+
+    private static Resources getResources() {
+        return NavigationApplication.instance.getResources();
+    }
+}
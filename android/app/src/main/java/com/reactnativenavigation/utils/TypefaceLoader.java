@@ -3,18 +3,35 @@ package com.reactnativenavigation.utils;
 import android.content.res.AssetManager;
 import android.graphics.Typeface;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Log;
 import android.widget.TextView;
 
 import com.reactnativenavigation.NavigationApplication;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 
 public class TypefaceLoader {
-    private static final Map<String, Typeface> typefaceRegistry = new HashMap<>();
+    private static final String TAG = "TypefaceLoader";
+    private static final String FONTS_DIR = "fonts";
+
+    private static final ConcurrentMap<String, Typeface> typefaceRegistry = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, FutureTask<Typeface>> pendingLoads = new ConcurrentHashMap<>();
+    private static volatile Set<String> fontAssets;
+    private static ExecutorService preloadExecutor;
 
     private String fontFamilyName;
 
@@ -28,28 +45,119 @@ public class TypefaceLoader {
     }
 
     public Typeface getTypeFace() {
-        if (typefaceRegistry.containsKey(fontFamilyName)) {
-            return typefaceRegistry.get(fontFamilyName);
+        if (fontFamilyName == null) {
+            return Typeface.create((String) null, Typeface.NORMAL);
         }
-        Typeface result = load(fontFamilyName);
-        typefaceRegistry.put(fontFamilyName, result);
-        return result;
+        Typeface result = typefaceRegistry.get(fontFamilyName);
+        return result != null ? result : awaitLoad(fontFamilyName);
     }
 
-    private Typeface load(String fontFamilyName) {
-        AssetManager assets = NavigationApplication.instance.getAssets();
+    /**
+     * Loads the given font families in parallel. Families which are already loaded or being loaded are skipped,
+     * so a later {@link #getTypeFace()} either hits the registry or joins the pending load.
+     */
+    public static void preload(Collection<String> fontFamilyNames) {
+        for (final String fontFamilyName : fontFamilyNames) {
+            if (fontFamilyName == null || typefaceRegistry.containsKey(fontFamilyName)) {
+                continue;
+            }
+            final FutureTask<Typeface> task = obtainLoadTask(fontFamilyName);
+            if (task != null) {
+                getPreloadExecutor().execute(task);
+            }
+        }
+    }
+
+    private static Typeface awaitLoad(String fontFamilyName) {
+        FutureTask<Typeface> task = obtainLoadTask(fontFamilyName);
+        if (task == null) {
+            task = pendingLoads.get(fontFamilyName);
+            if (task == null) {
+                return typefaceRegistry.get(fontFamilyName);
+            }
+        }
+        // A preload which hasn't started yet may be queued behind other fonts, so it's run here instead of waited for.
+        // Running a FutureTask which already started or finished does nothing.
+        task.run();
         try {
-            List<String> fonts = Arrays.asList(assets.list("fonts"));
-            if (fonts.contains(fontFamilyName + ".ttf")) {
-                return Typeface.createFromAsset(assets, "fonts/" + fontFamilyName + ".ttf");
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            Log.e(TAG, "Failed loading font " + fontFamilyName, e.getCause());
+        }
+        return Typeface.create(fontFamilyName, Typeface.NORMAL);
+    }
+
+    /**
+     * @return a new load task which the caller is responsible for running, or null if another thread already owns the load
+     */
+    @Nullable
+    private static FutureTask<Typeface> obtainLoadTask(final String fontFamilyName) {
+        FutureTask<Typeface> task = new FutureTask<>(new Callable<Typeface>() {
+            @Override
+            public Typeface call() throws Exception {
+                try {
+                    Typeface result = load(fontFamilyName);
+                    typefaceRegistry.put(fontFamilyName, result);
+                    return result;
+                } finally {
+                    pendingLoads.remove(fontFamilyName);
+                }
             }
+        });
+        return pendingLoads.putIfAbsent(fontFamilyName, task) == null ? task : null;
+    }
 
-            if (fonts.contains(fontFamilyName + ".otf")) {
-                return Typeface.createFromAsset(assets, "fonts/" + fontFamilyName + ".otf");
+    private static Typeface load(String fontFamilyName) {
+        AssetManager assets = NavigationApplication.instance.getAssets();
+        Set<String> fonts = getFontAssets(assets);
+        if (fonts.contains(fontFamilyName + ".ttf")) {
+            return Typeface.createFromAsset(assets, FONTS_DIR + "/" + fontFamilyName + ".ttf");
+        }
+
+        if (fonts.contains(fontFamilyName + ".otf")) {
+            return Typeface.createFromAsset(assets, FONTS_DIR + "/" + fontFamilyName + ".otf");
+        }
+        return Typeface.create(fontFamilyName, Typeface.NORMAL);
+    }
+
+    private static Set<String> getFontAssets(AssetManager assets) {
+        Set<String> result = fontAssets;
+        if (result == null) {
+            synchronized (TypefaceLoader.class) {
+                result = fontAssets;
+                if (result == null) {
+                    result = listFontAssets(assets);
+                    fontAssets = result;
+                }
             }
+        }
+        return result;
+    }
+
+    private static Set<String> listFontAssets(AssetManager assets) {
+        try {
+            String[] fonts = assets.list(FONTS_DIR);
+            return fonts == null ? Collections.<String>emptySet() : new HashSet<>(Arrays.asList(fonts));
         } catch (IOException e) {
             e.printStackTrace();
+            return Collections.emptySet();
         }
-        return Typeface.create(fontFamilyName, Typeface.NORMAL);
+    }
+
+    private static synchronized ExecutorService getPreloadExecutor() {
+        if (preloadExecutor == null) {
+            int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+            preloadExecutor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "rnn-typeface-preload");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return preloadExecutor;
     }
 }
@@ -2,16 +2,11 @@ package com.reactnativenavigation.utils;
 
 import android.app.Activity;
 import android.content.res.Resources;
-import android.graphics.PorterDuff;
-import android.graphics.PorterDuffColorFilter;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.support.annotation.Nullable;
-import android.text.SpannableString;
-import android.text.Spanned;
 import android.text.SpannedString;
 import android.text.style.ForegroundColorSpan;
-import android.util.DisplayMetrics;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewParent;
@@ -44,10 +39,12 @@ public class ViewUtils {
         });
     }
 
-    public static void tintDrawable(Drawable drawable, int tint, boolean enabled) {
-        drawable.setColorFilter(new PorterDuffColorFilter(enabled ? tint :
-                AppStyle.appStyle.titleBarDisabledButtonColor.getColor(),
-                PorterDuff.Mode.SRC_IN));
+    /**
+     * @return a tinted copy of the drawable. Drawables which can't be copied are tinted in place, see
+     * {@link TintedDrawableCache#get(Drawable, int)}
+     */
+    public static Drawable tintDrawable(Drawable drawable, int tint, boolean enabled) {
+        return TintedDrawableCache.get(drawable, enabled ? tint : AppStyle.appStyle.titleBarDisabledButtonColor.getColor());
     }
 
     public static float convertDpToPixel(float dp) {
@@ -74,15 +71,11 @@ public class ViewUtils {
     }
 
     public static float getWindowWidth(Activity activity) {
-        DisplayMetrics metrics = new DisplayMetrics();
-        activity.getWindowManager().getDefaultDisplay().getMetrics(metrics);
-        return metrics.widthPixels;
+        return DisplayMetricsProvider.getWindowWidth(activity);
     }
 
     public static float getWindowHeight(Activity activity) {
-        DisplayMetrics metrics = new DisplayMetrics();
-        activity.getWindowManager().getDefaultDisplay().getMetrics(metrics);
-        return metrics.heightPixels;
+        return DisplayMetricsProvider.getWindowHeight(activity);
     }
 
     private static int compatGenerateViewId() {
@@ -200,10 +193,6 @@ public class ViewUtils {
         return text.getSpans(0, text.length(), ForegroundColorSpan.class);
     }
 
-    public static void setSpanColor(SpannableString span, int color) {
-        span.setSpan(new ForegroundColorSpan(color), 0, span.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-    }
-
     public static void removeRuleCompat(RelativeLayout.LayoutParams layoutParams, int rule) {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
             layoutParams.removeRule(rule);
@@ -1,7 +1,9 @@
 package com.reactnativenavigation.views;
 
 import android.annotation.SuppressLint;
+import android.annotation.TargetApi;
 import android.content.Context;
+import android.os.Build;
 import android.support.annotation.Nullable;
 import android.view.MotionEvent;
 import android.view.View;
@@ -10,6 +12,7 @@ import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.views.collapsingToolbar.CollapseAmount;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingView;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingViewMeasurer;
+import com.reactnativenavigation.views.collapsingToolbar.NestedScrollCollapser;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollViewAddedListener;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollListener;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollViewDelegate;
@@ -21,6 +24,7 @@ public class CollapsingContentView extends ContentView implements CollapsingView
 
     private @Nullable ScrollViewDelegate scrollViewDelegate;
     private @Nullable ScrollViewDetector scrollViewDetector;
+    private @Nullable NestedScrollCollapser nestedScrollCollapser;
     private final ViewCollapser viewCollapser;
 
     public CollapsingContentView(Context context, String screenId, NavigationParams navigationParams) {
@@ -33,9 +37,17 @@ public class CollapsingContentView extends ContentView implements CollapsingView
         scrollViewDetector = new ScrollViewDetector(this, onScrollViewAddedListener, scrollViewDelegate);
     }
 
+    /**
+     * Collapses from the nested scrolling callbacks of the content instead of intercepting its touch events.
+     * Collapse detection still has to be set up so the scroll view is found.
+     */
+    public void setNestedScrollCollapser(NestedScrollCollapser nestedScrollCollapser) {
+        this.nestedScrollCollapser = nestedScrollCollapser;
+    }
+
     @Override
     public boolean dispatchTouchEvent(MotionEvent ev) {
-        if (scrollViewDelegate != null && scrollViewDelegate.hasScrollView()) {
+        if (nestedScrollCollapser == null && scrollViewDelegate != null && scrollViewDelegate.hasScrollView()) {
             boolean consumed = scrollViewDelegate.didInterceptTouchEvent(ev);
             if (consumed) {
                 return true;
@@ -44,11 +56,54 @@ public class CollapsingContentView extends ContentView implements CollapsingView
         return super.dispatchTouchEvent(ev);
     }
 
+    @Override
+    public boolean onStartNestedScroll(View child, View target, int nestedScrollAxes) {
+        return nestedScrollCollapser != null && nestedScrollCollapser.onStartNestedScroll(nestedScrollAxes);
+    }
+
+    @Override
+    public void onNestedPreScroll(View target, int dx, int dy, int[] consumed) {
+        if (nestedScrollCollapser != null) {
+            nestedScrollCollapser.onNestedPreScroll(target, dy, consumed);
+        }
+    }
+
+    @Override
+    public void onNestedScroll(View target, int dxConsumed, int dyConsumed, int dxUnconsumed, int dyUnconsumed) {
+        if (nestedScrollCollapser != null) {
+            nestedScrollCollapser.onNestedScroll(dyUnconsumed);
+        }
+    }
+
+    @Override
+    public boolean onNestedPreFling(View target, float velocityX, float velocityY) {
+        return nestedScrollCollapser != null && nestedScrollCollapser.onNestedPreFling(target, velocityY);
+    }
+
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    @Override
+    public void onStopNestedScroll(View child) {
+        super.onStopNestedScroll(child);
+        if (nestedScrollCollapser != null) {
+            nestedScrollCollapser.onStopNestedScroll();
+        }
+    }
+
     @Override
     public void onViewAdded(final View child) {
         super.onViewAdded(child);
         if (scrollViewDetector != null) {
-            scrollViewDetector.findScrollView(child);
+            scrollViewDetector.onViewAdded(child);
+        }
+    }
+
+    /**
+     * Collapses in response to the given scroll view, or the first ScrollView inside the given view, instead of the
+     * one found automatically.
+     */
+    public void registerScrollView(View view) {
+        if (scrollViewDetector != null) {
+            scrollViewDetector.registerScrollView(view);
         }
     }
 
@@ -8,6 +8,7 @@ import com.facebook.react.ReactRootView;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.screens.SingleScreen;
+import com.reactnativenavigation.utils.StartupTimings;
 import com.reactnativenavigation.utils.ViewUtils;
 import com.reactnativenavigation.views.utils.ViewMeasurer;
 
@@ -79,6 +80,19 @@ public class ContentView extends ReactRootView {
     public void onViewAdded(final View child) {
         super.onViewAdded(child);
         detectContentViewVisible(child);
+        markFirstScreenDisplayed(child);
+    }
+
+    private void markFirstScreenDisplayed(View child) {
+        if (StartupTimings.instance.isReached(StartupTimings.Phase.FirstScreenDisplayed)) {
+            return;
+        }
+        ViewUtils.runOnPreDraw(child, new Runnable() {
+            @Override
+            public void run() {
+                StartupTimings.instance.mark(StartupTimings.Phase.FirstScreenDisplayed);
+            }
+        });
     }
 
     private void detectContentViewVisible(final View child) {
@@ -18,13 +18,20 @@ import com.reactnativenavigation.params.FabActionParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.utils.ViewUtils;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 
 import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
 
+/**
+ * Shows the FAB of the current screen. Updates are diffed against the FAB on screen: the collapsed and expended
+ * buttons are kept and only their icons, colors and actions are updated, so the show and remove animations only
+ * run when a FAB actually appears or disappears. Removed action buttons are pooled and reused.
+ */
 class FloatingActionButtonCoordinator {
     private static final String TAG = "FloatingActionButtonCoo";
     private static final int INITIAL_EXPENDED_FAB_ROTATION = -90;
+    private static final int MAX_POOLED_ACTIONS = 4;
     private CoordinatorLayout parent;
     private FabParams params;
     private FloatingActionButton collapsedFab;
@@ -33,6 +40,10 @@ class FloatingActionButtonCoordinator {
     private final int margin = (int) ViewUtils.convertDpToPixel(16);
     private FloatingActionButtonAnimator fabAnimator;
     private final ArrayList<FloatingActionButton> actions;
+    private final ArrayDeque<FloatingActionButton> actionPool = new ArrayDeque<>();
+    private ColorStateList defaultActionTint;
+    private boolean isExpended;
+    private boolean isRemoving;
 
     FloatingActionButtonCoordinator(CoordinatorLayout parent) {
         this.parent = parent;
@@ -62,6 +73,38 @@ class FloatingActionButtonCoordinator {
         fabAnimator.show();
     }
 
+    /**
+     * Shows the given FAB, or removes the current one if params is null. A FAB which is already on screen is updated
+     * in place.
+     */
+    void update(@Nullable FabParams params) {
+        if (params == null || !params.isValid()) {
+            remove(null);
+            return;
+        }
+        if (!hasFab() || isRemoving) {
+            add(params);
+            return;
+        }
+
+        FabParams current = this.params;
+        this.params = params;
+        if (!current.hasSameCollapsedIcon(params)) {
+            collapsedFab.setImageDrawable(params.collapsedIcon);
+        }
+        if (!current.hasSameExpendedIcon(params)) {
+            expendedFab.setImageDrawable(params.expendedIcon);
+        }
+        if (!current.backgroundColor.equals(params.backgroundColor)) {
+            setStyle();
+        }
+        boolean sameScreen = current.screenInstanceId.equals(params.screenInstanceId);
+        if (isExpended && (!sameScreen || current.getActionCount() != params.getActionCount())) {
+            collapse();
+        }
+        updateActions(current);
+    }
+
     void remove(@Nullable final Runnable onComplete) {
         if (!hasFab()) {
             if (onComplete != null) {
@@ -70,6 +113,7 @@ class FloatingActionButtonCoordinator {
             return;
         }
         if (fabAnimator != null) {
+            isRemoving = true;
             fabAnimator.removeFabFromScreen(expendedFab, new AnimatorListenerAdapter() {
                 @Override
                 public void onAnimationEnd(Animator animation) {
@@ -95,10 +139,11 @@ class FloatingActionButtonCoordinator {
         collapsedFab = null;
         expendedFab = null;
         for (FloatingActionButton action : actions) {
-            ((CoordinatorLayout.LayoutParams) action.getLayoutParams()).setBehavior(null);
-            parent.removeView(action);
+            recycleAction(action);
         }
         actions.clear();
+        isExpended = false;
+        isRemoving = false;
     }
 
     private void createCollapsedFab() {
@@ -111,6 +156,7 @@ class FloatingActionButtonCoordinator {
                     fabAnimator.hideCollapsed();
                     fabAnimator.showExpended();
                     showActions();
+                    isExpended = true;
                 }
                 NavigationApplication.instance.getEventEmitter().sendNavigatorEvent(params.collapsedId, params.navigatorEventId);
             }
@@ -125,12 +171,17 @@ class FloatingActionButtonCoordinator {
         expendedFab.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                fabAnimator.collapse();
+                collapse();
                 NavigationApplication.instance.getEventEmitter().sendNavigatorEvent(params.expendedId, params.navigatorEventId);
             }
         });
     }
 
+    private void collapse() {
+        isExpended = false;
+        fabAnimator.collapse();
+    }
+
     private FloatingActionButton createFab(Drawable icon) {
         FloatingActionButton fab = new FloatingActionButton(parent.getContext());
         fab.setId(ViewUtils.generateViewId());
@@ -153,31 +204,44 @@ class FloatingActionButtonCoordinator {
     }
 
     private void showActions() {
-        if (actions.size() > 0) {
-            return;
+        for (int i = actions.size(); i < params.getActionCount(); i++) {
+            FloatingActionButton action = obtainAction();
+            bindAction(action, i);
+            actions.add(action);
+            parent.addView(action, createActionLayoutParams(i));
         }
+    }
 
-        for (int i = 0; i < params.actions.size(); i++) {
-            FloatingActionButton action = createAction(i);
-            actions.add(action);
-            parent.addView(action);
+    private void updateActions(FabParams previous) {
+        while (actions.size() > params.getActionCount()) {
+            recycleAction(actions.remove(actions.size() - 1));
+        }
+        for (int i = 0; i < actions.size(); i++) {
+            if (!previous.actions.get(i).hasSameStyle(params.actions.get(i))) {
+                bindAction(actions.get(i), i);
+            }
         }
     }
 
-    private FloatingActionButton createAction(int index) {
-        final FabActionParams actionParams = params.actions.get(index);
-        FloatingActionButton action = createFab(actionParams.icon);
-        action.setLayoutParams(createActionLayoutParams(index));
+    private FloatingActionButton obtainAction() {
+        FloatingActionButton action = actionPool.poll();
+        if (action != null) {
+            return action;
+        }
+        action = createFab(null);
+        defaultActionTint = action.getBackgroundTintList();
         action.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
+                int index = actions.indexOf(v);
+                if (index < 0 || index >= params.getActionCount()) {
+                    return;
+                }
+                FabActionParams actionParams = params.actions.get(index);
                 NavigationApplication.instance.getEventEmitter().sendNavigatorEvent(actionParams.id, actionParams.navigatorEventId);
-                fabAnimator.collapse();
+                collapse();
             }
         });
-        if (actionParams.backgroundColor.hasColor()) {
-            action.setBackgroundTintList(ColorStateList.valueOf(actionParams.backgroundColor.getColor()));
-        }
         action.setSize(FloatingActionButton.SIZE_MINI);
         if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
             action.setCompatElevation(0);
@@ -185,6 +249,28 @@ class FloatingActionButtonCoordinator {
         return action;
     }
 
+    private void bindAction(FloatingActionButton action, int index) {
+        FabActionParams actionParams = params.actions.get(index);
+        action.setImageDrawable(actionParams.icon);
+        action.setBackgroundTintList(actionParams.backgroundColor.hasColor() ?
+                ColorStateList.valueOf(actionParams.backgroundColor.getColor()) :
+                defaultActionTint);
+    }
+
+    private void recycleAction(FloatingActionButton action) {
+        action.animate().cancel();
+        ((CoordinatorLayout.LayoutParams) action.getLayoutParams()).setBehavior(null);
+        parent.removeView(action);
+        if (actionPool.size() < MAX_POOLED_ACTIONS) {
+            action.setAlpha(1);
+            action.setScaleX(1);
+            action.setScaleY(1);
+            action.setVisibility(View.VISIBLE);
+            action.setImageDrawable(null);
+            actionPool.add(action);
+        }
+    }
+
     @NonNull
     private CoordinatorLayout.LayoutParams createActionLayoutParams(int actionIndex) {
         CoordinatorLayout.LayoutParams lp = new CoordinatorLayout.LayoutParams(WRAP_CONTENT, WRAP_CONTENT);
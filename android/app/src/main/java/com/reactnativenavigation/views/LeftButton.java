@@ -2,6 +2,8 @@ package com.reactnativenavigation.views;
 
 import android.content.Context;
 import android.graphics.Color;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.Nullable;
 import android.view.View;
 
 import com.balysv.materialmenu.MaterialMenuDrawable;
@@ -84,7 +86,7 @@ class LeftButton extends MaterialMenuDrawable implements View.OnClickListener {
         if (params.hasDefaultIcon()) {
             setColor(params.color.getColor());
         } else if (params.hasCustomIcon()) {
-            ViewUtils.tintDrawable(params.icon, params.color.getColor(), true);
+            params.icon = ViewUtils.tintDrawable(params.icon, params.color.getColor(), true);
         }
     }
 
@@ -93,10 +95,15 @@ class LeftButton extends MaterialMenuDrawable implements View.OnClickListener {
         if (params.hasDefaultIcon()) {
             super.setColor(color);
         } else {
-            ViewUtils.tintDrawable(params.icon, color, true );
+            params.icon = ViewUtils.tintDrawable(params.icon, color, true);
         }
     }
 
+    @Nullable
+    Drawable getCustomIcon() {
+        return params != null && params.hasCustomIcon() ? params.icon : null;
+    }
+
     private boolean isBackButton() {
         return params.hasDefaultIcon() && getIconState() == IconState.ARROW;
     }
@@ -31,17 +31,29 @@ public class LightBox extends Dialog implements DialogInterface.OnDismissListene
     private ContentView content;
     private RelativeLayout lightBox;
     private boolean cancelable;
+    private final String screenId;
+    private final String screenInstanceId;
+    private final boolean keepAlive;
+    private final LightBoxCache cache;
+    private final View.OnClickListener hideOnClick = new View.OnClickListener() {
+        @Override
+        public void onClick(View v) {
+            hide();
+        }
+    };
 
-    public LightBox(AppCompatActivity activity, Runnable onDismissListener, LightBoxParams params) {
+    public LightBox(AppCompatActivity activity, Runnable onDismissListener, LightBoxParams params, LightBoxCache cache) {
         super(activity, R.style.LightBox);
         this.onDismissListener = onDismissListener;
-        this.cancelable = !params.overrideBackPress;
+        this.screenId = params.screenId;
+        this.screenInstanceId = params.navigationParams.screenInstanceId;
+        this.keepAlive = params.keepAlive;
+        this.cache = cache;
         setOnDismissListener(this);
         requestWindowFeature(Window.FEATURE_NO_TITLE);
         createContent(activity, params);
-        setCancelable(cancelable);
+        setParams(params);
         getWindow().setWindowAnimations(android.R.style.Animation);
-        getWindow().setSoftInputMode(params.adjustSoftInput);
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
             getWindow().addFlags(WindowManager.LayoutParams.FLAG_DRAWS_SYSTEM_BAR_BACKGROUNDS);
             getWindow().getDecorView().setSystemUiVisibility(View.SYSTEM_UI_FLAG_LAYOUT_STABLE | View.SYSTEM_UI_FLAG_LAYOUT_FULLSCREEN);
@@ -55,18 +67,8 @@ public class LightBox extends Dialog implements DialogInterface.OnDismissListene
         content.setAlpha(0);
         RelativeLayout.LayoutParams lp = new RelativeLayout.LayoutParams(WRAP_CONTENT, WRAP_CONTENT);
         lp.addRule(RelativeLayout.CENTER_IN_PARENT, content.getId());
-        lightBox.setBackgroundColor(params.backgroundColor.getColor());
         lightBox.addView(content, lp);
 
-        if (params.tapBackgroundToDismiss) {
-            lightBox.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    hide();
-                }
-            });
-        }
-
         content.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
@@ -85,6 +87,43 @@ public class LightBox extends Dialog implements DialogInterface.OnDismissListene
         setContentView(lightBox, new ViewGroup.LayoutParams(MATCH_PARENT, MATCH_PARENT));
     }
 
+    private void setParams(LightBoxParams params) {
+        cancelable = !params.overrideBackPress;
+        setCancelable(cancelable);
+        getWindow().setSoftInputMode(params.adjustSoftInput);
+        lightBox.setBackgroundColor(params.backgroundColor.getColor());
+        lightBox.setOnClickListener(params.tapBackgroundToDismiss ? hideOnClick : null);
+        lightBox.setClickable(params.tapBackgroundToDismiss);
+    }
+
+    /**
+     * @return true if this lightbox was kept alive after it was hidden and still renders the screen of the params.
+     * The navigation params of a kept alive lightbox are reused by JS, so its props are updated by JS as well.
+     */
+    boolean canReuse(LightBoxParams params) {
+        return keepAlive && content != null &&
+               screenId.equals(params.screenId) &&
+               screenInstanceId != null && screenInstanceId.equals(params.navigationParams.screenInstanceId);
+    }
+
+    /**
+     * Shows the hidden lightbox again. Its content is already rendered and sized, so it's animated in on the next frame.
+     */
+    void reuse(LightBoxParams params, Runnable onDismissListener) {
+        this.onDismissListener = onDismissListener;
+        setParams(params);
+        lightBox.setAlpha(0);
+        content.setAlpha(0);
+        content.setTranslationY(0);
+        show();
+        ViewUtils.runOnPreDraw(content, new Runnable() {
+            @Override
+            public void run() {
+                animateShow();
+            }
+        });
+    }
+
     @Override
     public void show() {
         super.show();
@@ -103,7 +142,10 @@ public class LightBox extends Dialog implements DialogInterface.OnDismissListene
 
     @Override
     public void onDismiss(DialogInterface dialogInterface) {
-        onDismissListener.run();
+        if (onDismissListener != null) {
+            onDismissListener.run();
+            onDismissListener = null;
+        }
     }
 
     public void destroy() {
@@ -146,7 +188,12 @@ public class LightBox extends Dialog implements DialogInterface.OnDismissListene
         allAnimators.addListener(new AnimatorListenerAdapter() {
             @Override
             public void onAnimationEnd(Animator animation) {
-                destroy();
+                if (keepAlive && content != null) {
+                    dismiss();
+                    cache.onHidden(screenId, LightBox.this);
+                } else {
+                    destroy();
+                }
             }
         });
         allAnimators.start();
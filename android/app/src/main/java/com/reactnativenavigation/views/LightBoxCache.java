@@ -0,0 +1,86 @@
+package com.reactnativenavigation.views;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.support.v7.app.AppCompatActivity;
+
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.params.LightBoxParams;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps hidden lightboxes which were shown with keepAlive, by screen id, so showing the same screen again reuses the
+ * rendered content instead of creating a new window and React root. At most {@link #MAX_SIZE} lightboxes are kept,
+ * the least recently used is destroyed first, and all of them are destroyed when memory runs low.
+ */
+public class LightBoxCache implements ComponentCallbacks2 {
+    private static final int MAX_SIZE = 3;
+
+    private final Map<String, LightBox> lightBoxes = new LinkedHashMap<>(MAX_SIZE + 1, 0.75f, true);
+    private boolean isRegistered;
+
+    public LightBox show(AppCompatActivity activity, LightBoxParams params, Runnable onDismissListener) {
+        LightBox lightBox = lightBoxes.remove(params.screenId);
+        if (lightBox != null && lightBox.canReuse(params)) {
+            lightBox.reuse(params, onDismissListener);
+            return lightBox;
+        }
+        if (lightBox != null) {
+            lightBox.destroy();
+        }
+        lightBox = new LightBox(activity, onDismissListener, params, this);
+        lightBox.show();
+        return lightBox;
+    }
+
+    void onHidden(String screenId, LightBox lightBox) {
+        LightBox replaced = lightBoxes.put(screenId, lightBox);
+        if (replaced != null && replaced != lightBox) {
+            replaced.destroy();
+        }
+        if (lightBoxes.size() > MAX_SIZE) {
+            String eldest = lightBoxes.keySet().iterator().next();
+            lightBoxes.remove(eldest).destroy();
+        }
+        if (!isRegistered) {
+            NavigationApplication.instance.registerComponentCallbacks(this);
+            isRegistered = true;
+        }
+    }
+
+    private void clear() {
+        for (LightBox lightBox : new ArrayList<>(lightBoxes.values())) {
+            lightBox.destroy();
+        }
+        lightBoxes.clear();
+    }
+
+    public void destroy() {
+        clear();
+        if (isRegistered) {
+            NavigationApplication.instance.unregisterComponentCallbacks(this);
+            isRegistered = false;
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        // TRIM_MEMORY_UI_HIDDEN only means the app went to the background, it isn't memory pressure
+        if (level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_BACKGROUND) {
+            clear();
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+
+    }
+}
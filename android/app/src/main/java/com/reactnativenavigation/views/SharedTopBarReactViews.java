@@ -0,0 +1,100 @@
+package com.reactnativenavigation.views;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.params.NavigationParams;
+import com.reactnativenavigation.params.StyleParams;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Title bar React roots shared by every screen of an activity which shows the same shared custom component, keyed
+ * by activity and component name. The root is moved into the title bar of the screen being shown and told which
+ * props to render; it's unmounted once no screen references it anymore.
+ * Activities and roots are only weakly referenced here, the title bars using a root keep it alive.
+ */
+class SharedTopBarReactViews {
+    static final String SHARED_PROPS_EVENT_KEY = "sharedPropsEvent";
+    private static final String SHARED_PROPS_EVENT_PREFIX = "RNN.sharedTopBarReactView.";
+
+    static final SharedTopBarReactViews instance = new SharedTopBarReactViews();
+
+    private final Map<Context, Map<String, Entry>> entries = new WeakHashMap<>();
+    private int nextId;
+
+    private static class Entry {
+        final WeakReference<ContentView> view;
+        final String propsEvent;
+        int references;
+
+        Entry(ContentView view, String propsEvent) {
+            this.view = new WeakReference<>(view);
+            this.propsEvent = propsEvent;
+        }
+    }
+
+    ContentView acquire(Context context, StyleParams styleParams) {
+        Map<String, Entry> contextEntries = entries.get(context);
+        if (contextEntries == null) {
+            contextEntries = new HashMap<>();
+            entries.put(context, contextEntries);
+        }
+        Entry entry = contextEntries.get(styleParams.topBarReactView);
+        ContentView view = entry == null ? null : entry.view.get();
+        if (view == null) {
+            String propsEvent = SHARED_PROPS_EVENT_PREFIX + nextId++;
+            Bundle initialProps = new Bundle();
+            if (styleParams.topBarReactViewInitialProps != null) {
+                initialProps.putAll(styleParams.topBarReactViewInitialProps);
+            }
+            initialProps.putString(SHARED_PROPS_EVENT_KEY, propsEvent);
+            view = new ContentView(context, styleParams.topBarReactView, NavigationParams.EMPTY, initialProps);
+            entry = new Entry(view, propsEvent);
+            contextEntries.put(styleParams.topBarReactView, entry);
+        }
+        entry.references++;
+        return view;
+    }
+
+    /**
+     * Makes the shared root render the props of the screen it was just moved to.
+     */
+    void showProps(ContentView view, StyleParams styleParams) {
+        Entry entry = getEntry(view.getContext(), styleParams.topBarReactView);
+        if (entry == null || entry.view.get() != view) {
+            return;
+        }
+        Bundle props = styleParams.topBarReactViewInitialProps;
+        String passPropsKey = props == null ? null : props.getString("passPropsKey");
+        NavigationApplication.instance.getEventEmitter().sendEvent(entry.propsEvent, passPropsKey);
+    }
+
+    void release(String componentName, ContentView view) {
+        Entry entry = getEntry(view.getContext(), componentName);
+        if (entry == null || entry.view.get() != view) {
+            view.unmountReactView();
+            return;
+        }
+        entry.references--;
+        if (entry.references <= 0) {
+            Map<String, Entry> contextEntries = entries.get(view.getContext());
+            contextEntries.remove(componentName);
+            if (contextEntries.isEmpty()) {
+                entries.remove(view.getContext());
+            }
+            view.unmountReactView();
+        }
+    }
+
+    @Nullable
+    private Entry getEntry(Context context, String componentName) {
+        Map<String, Entry> contextEntries = entries.get(context);
+        return contextEntries == null ? null : contextEntries.get(componentName);
+    }
+}
@@ -1,11 +1,14 @@
 package com.reactnativenavigation.views;
 
 import android.content.Context;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.support.annotation.Nullable;
 import android.support.v4.widget.DrawerLayout;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.FrameLayout;
 import android.widget.RelativeLayout;
 
 import com.facebook.react.bridge.Callback;
@@ -14,9 +17,14 @@ import com.reactnativenavigation.params.BaseScreenParams;
 import com.reactnativenavigation.params.SideMenuParams;
 import com.reactnativenavigation.screens.NavigationType;
 import com.reactnativenavigation.screens.Screen;
+import com.reactnativenavigation.utils.StartupTimings;
 import com.reactnativenavigation.utils.ViewUtils;
 
-public class SideMenu extends DrawerLayout {
+/**
+ * A lazy side menu starts with an empty drawer and creates its React content the first time the drawer slides or
+ * is opened by a command, or while the main thread is idle once the first screen is displayed.
+ */
+public class SideMenu extends DrawerLayout implements MessageQueue.IdleHandler {
     private SideMenuParams leftMenuParams;
     private SideMenuParams rightMenuParams;
 
@@ -34,28 +42,33 @@ public class SideMenu extends DrawerLayout {
         }
     }
 
+    private View leftDrawer;
+    private View rightDrawer;
     private ContentView leftSideMenuView;
     private ContentView rightSideMenuView;
     private RelativeLayout contentContainer;
     private SimpleDrawerListener sideMenuListener;
+    private boolean isDestroyed;
 
     public RelativeLayout getContentContainer() {
         return contentContainer;
     }
 
     public void destroy() {
+        isDestroyed = true;
+        Looper.myQueue().removeIdleHandler(this);
         removeDrawerListener(sideMenuListener);
-        destroySideMenu(leftSideMenuView);
-        destroySideMenu(rightSideMenuView);
+        destroySideMenu(leftDrawer, leftSideMenuView);
+        destroySideMenu(rightDrawer, rightSideMenuView);
     }
 
-    private void destroySideMenu(ContentView sideMenuView) {
-        if (sideMenuView == null) {
-            return;
+    private void destroySideMenu(View drawer, ContentView sideMenuView) {
+        if (sideMenuView != null) {
+            sideMenuView.unmountReactView();
+        }
+        if (drawer != null) {
+            removeView(drawer);
         }
-        removeDrawerListener(sideMenuListener);
-        sideMenuView.unmountReactView();
-        removeView(sideMenuView);
     }
 
     public void setVisible(boolean visible, boolean animated, Side side) {
@@ -77,10 +90,12 @@ public class SideMenu extends DrawerLayout {
     }
 
     public void openDrawer(Side side) {
+        createSideMenuView(getParams(side));
         openDrawer(side.gravity);
     }
 
     public void openDrawer(boolean animated, Side side) {
+        createSideMenuView(getParams(side));
         openDrawer(side.gravity, animated);
     }
 
@@ -101,11 +116,12 @@ public class SideMenu extends DrawerLayout {
         this.leftMenuParams = leftMenuParams;
         this.rightMenuParams = rightMenuParams;
         createContentContainer();
-        leftSideMenuView = createSideMenu(leftMenuParams);
-        rightSideMenuView = createSideMenu(rightMenuParams);
+        leftDrawer = createDrawer(leftMenuParams);
+        rightDrawer = createDrawer(rightMenuParams);
         setStyle(leftMenuParams);
         setStyle(rightMenuParams);
         setScreenEventListener();
+        createLazySideMenusWhenIdle();
     }
 
     private void createContentContainer() {
@@ -115,41 +131,158 @@ public class SideMenu extends DrawerLayout {
         addView(contentContainer, lp);
     }
 
-    private ContentView createSideMenu(@Nullable SideMenuParams params) {
+    private View createDrawer(@Nullable SideMenuParams params) {
         if (params == null) {
             return null;
         }
-        ContentView sideMenuView = new ContentView(getContext(), params.screenId, params.navigationParams);
-        LayoutParams lp = new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.MATCH_PARENT);
+        LayoutParams lp = new LayoutParams(getInitialWidth(params), LayoutParams.MATCH_PARENT);
         lp.gravity = params.side.gravity;
-        setSideMenuWidth(sideMenuView, params);
+        if (params.lazy) {
+            FrameLayout drawer = new FrameLayout(getContext());
+            addView(drawer, lp);
+            return drawer;
+        }
+        ContentView sideMenuView = new ContentView(getContext(), params.screenId, params.navigationParams);
+        setSideMenuView(params.side, sideMenuView);
+        setSideMenuWidth(sideMenuView, sideMenuView, params);
         addView(sideMenuView, lp);
         return sideMenuView;
     }
 
-    private void setSideMenuWidth(final ContentView sideMenuView, @Nullable final SideMenuParams params) {
+    /**
+     * Until a lazy drawer's content is measured it's as wide as DrawerLayout allows, which is also the width the
+     * content is measured against when it isn't lazy.
+     */
+    private int getInitialWidth(SideMenuParams params) {
+        if (params.fixedWidth > 0) {
+            return params.fixedWidth;
+        }
+        int cachedWidth = SideMenuWidthCache.get(getContext(), params.screenId);
+        if (cachedWidth > 0) {
+            return cachedWidth;
+        }
+        return params.lazy ? LayoutParams.MATCH_PARENT : LayoutParams.WRAP_CONTENT;
+    }
+
+    private void createSideMenuView(@Nullable SideMenuParams params) {
+        if (params == null || getSideMenuView(params.side) != null || isDestroyed) {
+            return;
+        }
+        ViewGroup drawer = (ViewGroup) getDrawer(params.side);
+        ContentView sideMenuView = new ContentView(getContext(), params.screenId, params.navigationParams);
+        setSideMenuView(params.side, sideMenuView);
+        setSideMenuWidth(drawer, sideMenuView, params);
+        drawer.addView(sideMenuView, new FrameLayout.LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.MATCH_PARENT));
+    }
+
+    private void setSideMenuWidth(final View drawer, final ContentView sideMenuView, final SideMenuParams params) {
+        if (params.fixedWidth > 0) {
+            return;
+        }
         sideMenuView.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
-                final ViewGroup.LayoutParams lp = sideMenuView.getLayoutParams();
-                if (params != null && params.fixedWidth > 0) {
-                    lp.width = params.fixedWidth;
-                    sideMenuView.setLayoutParams(lp);
-                } else {
-                    NavigationApplication.instance.getUiManagerModule().measure(sideMenuView.getId(), new Callback() {
-                        @Override
-                        public void invoke(Object... args) {
-                            lp.width = sideMenuView.getChildAt(0).getWidth();
-                            sideMenuView.setLayoutParams(lp);
-                        }
-                    });
+                if (SideMenuWidthCache.get(getContext(), params.screenId) > 0) {
+                    // The drawer already has the width measured in an earlier session, the content is checked locally
+                    updateSideMenuWidth(drawer, sideMenuView, params);
+                    return;
                 }
+                NavigationApplication.instance.getUiManagerModule().measure(sideMenuView.getId(), new Callback() {
+                    @Override
+                    public void invoke(Object... args) {
+                        updateSideMenuWidth(drawer, sideMenuView, params);
+                    }
+                });
             }
         });
     }
 
+    private void updateSideMenuWidth(View drawer, ContentView sideMenuView, SideMenuParams params) {
+        if (sideMenuView.getChildCount() == 0) {
+            return;
+        }
+        int width = sideMenuView.getChildAt(0).getWidth();
+        if (width <= 0) {
+            return;
+        }
+        SideMenuWidthCache.put(getContext(), params.screenId, width);
+        ViewGroup.LayoutParams lp = drawer.getLayoutParams();
+        if (lp.width != width) {
+            lp.width = width;
+            drawer.setLayoutParams(lp);
+        }
+    }
+
+    private void createLazySideMenusWhenIdle() {
+        if (!isLazy(leftMenuParams) && !isLazy(rightMenuParams)) {
+            return;
+        }
+        StartupTimings.instance.runWhenReached(StartupTimings.Phase.FirstScreenDisplayed, new Runnable() {
+            @Override
+            public void run() {
+                if (!isDestroyed) {
+                    Looper.myQueue().addIdleHandler(SideMenu.this);
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates one lazy side menu per idle main thread pass.
+     */
+    @Override
+    public boolean queueIdle() {
+        if (isDestroyed) {
+            return false;
+        }
+        if (isLazy(leftMenuParams) && leftSideMenuView == null) {
+            createSideMenuView(leftMenuParams);
+        } else {
+            createSideMenuView(rightMenuParams);
+        }
+        return isLazy(rightMenuParams) && rightSideMenuView == null;
+    }
+
+    private static boolean isLazy(@Nullable SideMenuParams params) {
+        return params != null && params.lazy;
+    }
+
+    @Nullable
+    private SideMenuParams getParams(Side side) {
+        return side == Side.Left ? leftMenuParams : rightMenuParams;
+    }
+
+    @Nullable
+    private SideMenuParams getParams(View drawerView) {
+        return drawerView == leftDrawer ? leftMenuParams : rightMenuParams;
+    }
+
+    private View getDrawer(Side side) {
+        return side == Side.Left ? leftDrawer : rightDrawer;
+    }
+
+    @Nullable
+    private ContentView getSideMenuView(Side side) {
+        return side == Side.Left ? leftSideMenuView : rightSideMenuView;
+    }
+
+    private void setSideMenuView(Side side, ContentView sideMenuView) {
+        if (side == Side.Left) {
+            leftSideMenuView = sideMenuView;
+        } else {
+            rightSideMenuView = sideMenuView;
+        }
+    }
+
     public void setScreenEventListener() {
         sideMenuListener = new SimpleDrawerListener() {
+            @Override
+            public void onDrawerSlide(View drawerView, float slideOffset) {
+                if (slideOffset > 0) {
+                    createSideMenuView(getParams(drawerView));
+                }
+            }
+
             @Override
             public void onDrawerOpened(View drawerView) {
                 NavigationApplication.instance.getEventEmitter().sendWillAppearEvent(getVisibleDrawerScreenParams(), NavigationType.OpenSideMenu);
@@ -158,17 +291,13 @@ public class SideMenu extends DrawerLayout {
 
             @Override
             public void onDrawerClosed(View drawerView) {
-                NavigationApplication.instance.getEventEmitter().sendWillDisappearEvent(getVisibleDrawerScreenParams((ContentView) drawerView), NavigationType.CloseSideMenu);
-                NavigationApplication.instance.getEventEmitter().sendDidDisappearEvent(getVisibleDrawerScreenParams((ContentView) drawerView), NavigationType.CloseSideMenu);
+                NavigationApplication.instance.getEventEmitter().sendWillDisappearEvent(getParams(drawerView), NavigationType.CloseSideMenu);
+                NavigationApplication.instance.getEventEmitter().sendDidDisappearEvent(getParams(drawerView), NavigationType.CloseSideMenu);
             }
 
             private BaseScreenParams getVisibleDrawerScreenParams() {
                 return isDrawerOpen(Side.Left.gravity) ? leftMenuParams : rightMenuParams;
             }
-
-            private BaseScreenParams getVisibleDrawerScreenParams(ContentView drawerView) {
-                return drawerView == leftSideMenuView ? leftMenuParams : rightMenuParams;
-            }
         };
         addDrawerListener(sideMenuListener);
     }
@@ -0,0 +1,61 @@
+package com.reactnativenavigation.views;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the measured width of side menus across sessions, per screen and screen configuration, so a drawer
+ * can be sized before its content is measured through the bridge. The stored widths are read by {@link #preload}
+ * off the main thread before the layout is created; until then no width is cached.
+ */
+public class SideMenuWidthCache {
+    private static final String PREFERENCES_NAME = "com.reactnativenavigation.SideMenuWidths";
+
+    private static volatile Map<String, Integer> widths;
+
+    /**
+     * Reads the stored widths from disk. Must not be called from the main thread.
+     */
+    public static void preload(Context context) {
+        if (widths != null) {
+            return;
+        }
+        Map<String, Integer> result = new ConcurrentHashMap<>();
+        for (Map.Entry<String, ?> entry : getPreferences(context).getAll().entrySet()) {
+            if (entry.getValue() instanceof Integer) {
+                result.put(entry.getKey(), (Integer) entry.getValue());
+            }
+        }
+        widths = result;
+    }
+
+    static int get(Context context, String screenId) {
+        Map<String, Integer> loaded = widths;
+        Integer result = loaded == null ? null : loaded.get(getKey(context, screenId));
+        return result == null ? 0 : result;
+    }
+
+    static void put(Context context, String screenId, int width) {
+        Map<String, Integer> loaded = widths;
+        String key = getKey(context, screenId);
+        if (width <= 0 || loaded == null || Integer.valueOf(width).equals(loaded.get(key))) {
+            return;
+        }
+        loaded.put(key, width);
+        getPreferences(context).edit().putInt(key, width).apply();
+    }
+
+    private static SharedPreferences getPreferences(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+    }
+
+    private static String getKey(Context context, String screenId) {
+        Configuration configuration = context.getResources().getConfiguration();
+        int densityDpi = context.getResources().getDisplayMetrics().densityDpi;
+        return screenId + ":" + configuration.screenWidthDp + ":" + densityDpi;
+    }
+}
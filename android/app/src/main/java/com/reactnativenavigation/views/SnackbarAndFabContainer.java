@@ -63,15 +63,10 @@ public class SnackbarAndFabContainer extends CoordinatorLayout implements Snakba
     }
 
     private void updateFab(final FabParams fabParams) {
-        fabCoordinator.remove(new Runnable() {
-            @Override
-            public void run() {
-                if (fabParams != null) {
-                    if (layout.getCurrentScreen().getScreenInstanceId().equals(fabParams.screenInstanceId)) {
-                        fabCoordinator.add(fabParams);
-                    }
-                }
-            }
-        });
+        if (fabParams == null) {
+            fabCoordinator.update(null);
+        } else if (layout.getCurrentScreen().getScreenInstanceId().equals(fabParams.screenInstanceId)) {
+            fabCoordinator.update(fabParams);
+        }
     }
 }
@@ -23,13 +23,18 @@ import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.utils.ViewUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TitleBar extends Toolbar {
     private static final int TITLE_VISIBILITY_ANIMATION_DURATION = 320;
     private LeftButton leftButton;
     private ActionMenuView actionMenuView;
     private List<TitleBarButtonParams> rightButtons;
+    private final List<TitleBarButton> titleBarButtons = new ArrayList<>();
+    private boolean isTitleCentered;
 
     public TitleBar(Context context) {
         super(context);
@@ -43,14 +48,60 @@ public class TitleBar extends Toolbar {
         }
     }
 
+    /**
+     * Buttons are matched to the current ones by id. If the ids didn't change, each button is updated in place,
+     * otherwise the menu items are recreated since they can't be reordered, and component buttons which are kept
+     * keep their React root.
+     */
     public void setRightButtons(List<TitleBarButtonParams> rightButtons, String navigatorEventId) {
         this.rightButtons = rightButtons;
+        if (rightButtons != null && hasSameButtonIds(rightButtons)) {
+            for (int i = 0; i < rightButtons.size(); i++) {
+                titleBarButtons.get(i).update(rightButtons.get(i), navigatorEventId);
+            }
+            return;
+        }
+        replaceButtons(navigatorEventId);
+    }
+
+    private boolean hasSameButtonIds(List<TitleBarButtonParams> rightButtons) {
+        if (rightButtons.size() != titleBarButtons.size()) {
+            return false;
+        }
+        for (int i = 0; i < rightButtons.size(); i++) {
+            if (!TextUtils.equals(rightButtons.get(i).eventId, titleBarButtons.get(i).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void replaceButtons(String navigatorEventId) {
+        Map<String, TitleBarButton> previousButtons = new HashMap<>();
+        for (TitleBarButton button : titleBarButtons) {
+            previousButtons.put(button.getId(), button);
+        }
+        List<TitleBarButton> buttons = new ArrayList<>();
         Menu menu = getMenu();
+        if (rightButtons != null) {
+            for (TitleBarButtonParams params : rightButtons) {
+                TitleBarButton button = new TitleBarButton(menu, this, params, navigatorEventId);
+                TitleBarButton previousButton = previousButtons.get(params.eventId);
+                if (previousButton != null) {
+                    button.takeComponentFrom(previousButton);
+                }
+                buttons.add(button);
+            }
+        }
         menu.clear();
-        if (rightButtons == null) {
-            return;
+        for (TitleBarButton button : titleBarButtons) {
+            button.destroy();
+        }
+        titleBarButtons.clear();
+        titleBarButtons.addAll(buttons);
+        for (int i = 0; i < buttons.size(); i++) {
+            addButtonInReverseOrder(rightButtons, i, buttons.get(i));
         }
-        addButtonsToTitleBar(navigatorEventId, menu);
     }
 
     public void setLeftButton(TitleBarLeftButtonParams leftButtonParams,
@@ -120,19 +171,31 @@ public class TitleBar extends Toolbar {
         }
     }
 
-    private void centerTitle(final StyleParams params) {
-        final View titleView = getTitleView();
-        if (titleView == null) {
+    private void centerTitle(StyleParams params) {
+        if (isTitleCentered == params.titleBarTitleTextCentered) {
             return;
         }
-        ViewUtils.runOnPreDraw(titleView, new Runnable() {
-            @Override
-            public void run() {
-                if (params.titleBarTitleTextCentered) {
-                    titleView.setX(ViewUtils.getWindowWidth((Activity) getContext()) / 2 - titleView.getWidth() / 2);
-                }
+        isTitleCentered = params.titleBarTitleTextCentered;
+        View titleView = getTitleView();
+        if (!isTitleCentered && titleView != null) {
+            titleView.setTranslationX(0);
+        }
+        requestLayout();
+    }
+
+    /**
+     * Toolbar lays the title out at the start, a centered title is moved to the middle of the window after every
+     * layout pass, which also covers title changes since they relayout the title bar.
+     */
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        super.onLayout(changed, l, t, r, b);
+        if (isTitleCentered) {
+            View titleView = getTitleView();
+            if (titleView != null) {
+                titleView.setX(ViewUtils.getWindowWidth((Activity) getContext()) / 2 - titleView.getWidth() / 2);
             }
-        });
+        }
     }
 
     private void setTopPadding(final StyleParams params) {
@@ -142,7 +205,10 @@ public class TitleBar extends Toolbar {
     private void colorOverflowButton(StyleParams params) {
         Drawable overflowIcon = actionMenuView.getOverflowIcon();
         if (shouldColorOverflowButton(params, overflowIcon)) {
-            ViewUtils.tintDrawable(overflowIcon, params.titleBarButtonColor.getColor(), true);
+            Drawable tinted = ViewUtils.tintDrawable(overflowIcon, params.titleBarButtonColor.getColor(), true);
+            if (tinted != overflowIcon) {
+                actionMenuView.setOverflowIcon(tinted);
+            }
         }
     }
 
@@ -200,13 +266,6 @@ public class TitleBar extends Toolbar {
         }
     }
 
-    private void addButtonsToTitleBar(String navigatorEventId, Menu menu) {
-        for (int i = 0; i < rightButtons.size(); i++) {
-            final TitleBarButton button = new TitleBarButton(menu, this, rightButtons.get(i), navigatorEventId);
-            addButtonInReverseOrder(rightButtons, i, button);
-        }
-    }
-
     protected void addButtonInReverseOrder(List<? extends BaseTitleBarButtonParams> buttons, int i, TitleBarButton button) {
         final int index = buttons.size() - i - 1;
         button.addToMenu(index);
@@ -328,13 +387,18 @@ public class TitleBar extends Toolbar {
         }
         updateButtonColor(titleBarButtonColor);
         setLeftButtonColor(titleBarButtonColor);
-        setButtonsIconColor();
-        setButtonTextColor();
+        for (TitleBarButton button : titleBarButtons) {
+            button.onColorChanged();
+        }
     }
 
     private void setLeftButtonColor(StyleParams.Color titleBarButtonColor) {
         if (leftButton != null) {
             leftButton.setColor(titleBarButtonColor.getColor());
+            Drawable customIcon = leftButton.getCustomIcon();
+            if (customIcon != null) {
+                setNavigationIcon(customIcon);
+            }
         }
     }
 
@@ -346,32 +410,6 @@ public class TitleBar extends Toolbar {
         }
     }
 
-    private void setButtonTextColor() {
-        final ActionMenuView buttonsContainer = ViewUtils.findChildByClass(this, ActionMenuView.class);
-        if (buttonsContainer != null) {
-            for (int i = 0; i < buttonsContainer.getChildCount(); i++) {
-                if (buttonsContainer.getChildAt(i) instanceof TextView) {
-                    ((TextView) buttonsContainer.getChildAt(i)).setTextColor(getButton(i).getColor().getColor());
-                }
-            }
-        }
-    }
-
-    private void setButtonsIconColor() {
-        final Menu menu = getMenu();
-        for (int i = 0; i < menu.size(); i++) {
-            if (menu.getItem(i).getIcon() != null) {
-                ViewUtils.tintDrawable(menu.getItem(i).getIcon(),
-                        getButton(i).getColor().getColor(),
-                        getButton(i).enabled);
-            }
-        }
-    }
-
-    BaseTitleBarButtonParams getButton(int index) {
-        return rightButtons.get(rightButtons.size() - index - 1);
-    }
-
     public void onViewPagerScreenChanged(BaseScreenParams screenParams) {
         if (hasLeftButton()) {
             leftButton.updateNavigatorEventId(screenParams.getNavigatorEventId());
@@ -379,14 +417,8 @@ public class TitleBar extends Toolbar {
     }
 
     public void destroy() {
-        unmountCustomButtons();
-    }
-
-    private void unmountCustomButtons() {
-        for (int i = 0; i < actionMenuView.getChildCount(); i++) {
-            if (actionMenuView.getChildAt(i) instanceof TitleBarButtonComponent) {
-                ((ContentView) actionMenuView.getChildAt(i)).unmountReactView();
-            }
+        for (TitleBarButton button : titleBarButtons) {
+            button.destroy();
         }
     }
 }
@@ -1,6 +1,5 @@
 package com.reactnativenavigation.views;
 
-import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v7.widget.ActionMenuView;
 import android.text.SpannableStringBuilder;
@@ -16,14 +15,20 @@ import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.utils.TypefaceSpan;
 import com.reactnativenavigation.utils.ViewUtils;
 
-import java.util.ArrayList;
-
+/**
+ * A right button in the title bar. The button keeps its menu item, and its React root for component buttons, so it
+ * can be updated in place when the screen sets its buttons again. The item's action view is looked up by the item's
+ * id, which the action menu assigns to the views it creates for its items.
+ */
 class TitleBarButton implements MenuItem.OnMenuItemClickListener {
 
     protected final Menu menu;
     protected final ViewGroup parent;
     private TitleBarButtonParams buttonParams;
     @Nullable protected String navigatorEventId;
+    private MenuItem item;
+    @Nullable private TitleBarButtonComponent component;
+    private boolean isViewStylePending;
 
     TitleBarButton(Menu menu, ViewGroup parent, TitleBarButtonParams buttonParams, @Nullable String navigatorEventId) {
         this.menu = menu;
@@ -32,49 +37,112 @@ class TitleBarButton implements MenuItem.OnMenuItemClickListener {
         this.navigatorEventId = navigatorEventId;
     }
 
+    String getId() {
+        return buttonParams.eventId;
+    }
+
     MenuItem addToMenu(int index) {
-        MenuItem item = createMenuItem(index);
+        item = menu.add(Menu.NONE, ViewUtils.generateViewId(), index, createTitle());
         item.setShowAsAction(buttonParams.showAsAction.action);
         item.setEnabled(buttonParams.enabled);
         if (buttonParams.hasComponent()) {
-            item.setActionView(new TitleBarButtonComponent(parent.getContext(), buttonParams.componentName, buttonParams.componentProps));
+            if (component == null) {
+                component = new TitleBarButtonComponent(parent.getContext(), buttonParams.componentName, buttonParams.componentProps);
+            }
+            item.setActionView(component);
         }
-        setIcon(item, index);
         setColor();
-        setFont();
+        setIcon();
+        styleView();
         item.setOnMenuItemClickListener(this);
         return item;
     }
 
-    private MenuItem createMenuItem(int index) {
+    /**
+     * Lets this button, which isn't added to the menu yet, take over the React root of a button which is being
+     * removed, if both show the same component with the same props.
+     */
+    void takeComponentFrom(TitleBarButton button) {
+        if (button.component != null && buttonParams.hasSameComponent(button.buttonParams)) {
+            component = button.component;
+            button.component = null;
+        }
+    }
+
+    void update(TitleBarButtonParams params, @Nullable String navigatorEventId) {
+        TitleBarButtonParams previous = buttonParams;
+        buttonParams = params;
+        this.navigatorEventId = navigatorEventId;
+
+        if (!TextUtils.equals(previous.label, params.label) || !TextUtils.equals(getFontName(previous), getFontName(params))) {
+            item.setTitle(createTitle());
+        }
+        if (previous.showAsAction != params.showAsAction) {
+            item.setShowAsAction(params.showAsAction.action);
+        }
+        if (previous.enabled != params.enabled) {
+            item.setEnabled(params.enabled);
+        }
+        updateComponent(previous);
+        if (hasSameIcon(previous)) {
+            params.icon = previous.icon;
+        } else {
+            setColor();
+            setIcon();
+        }
+        styleView();
+    }
+
+    private void updateComponent(TitleBarButtonParams previous) {
+        if (buttonParams.hasSameComponent(previous)) {
+            return;
+        }
+        destroy();
+        if (buttonParams.hasComponent()) {
+            component = new TitleBarButtonComponent(parent.getContext(), buttonParams.componentName, buttonParams.componentProps);
+        }
+        item.setActionView(component);
+    }
+
+    private boolean hasSameIcon(TitleBarButtonParams previous) {
+        return TextUtils.equals(previous.iconSource, buttonParams.iconSource) &&
+               previous.color.equals(buttonParams.color) &&
+               previous.enabled == buttonParams.enabled &&
+               previous.disableIconTint == buttonParams.disableIconTint;
+    }
+
+    void destroy() {
+        if (component != null) {
+            component.unmountReactView();
+            component = null;
+        }
+    }
+
+    void onColorChanged() {
+        if (hasIcon() && hasColor() && !disableIconTint()) {
+            setIconColor();
+            item.setIcon(buttonParams.icon);
+        }
+        styleView();
+    }
+
+    private CharSequence createTitle() {
         if (!buttonParams.hasFont() || TextUtils.isEmpty(buttonParams.label)) {
-            return menu.add(Menu.NONE, Menu.NONE, index, buttonParams.label);
+            return buttonParams.label;
         }
         TypefaceSpan span = new TypefaceSpan(buttonParams.font.get());
         SpannableStringBuilder title = new SpannableStringBuilder(buttonParams.label);
         title.setSpan(span, 0, title.length(), 0);
-        return menu.add(Menu.NONE, Menu.NONE, index, title);
+        return title;
     }
 
-    private void setIcon(MenuItem item, int index) {
-        if (hasIcon()) {
-            item.setIcon(buttonParams.icon);
-            if (TextUtils.isEmpty(buttonParams.label)) {
-                dontShowLabelOnLongPress(index);
-            }
-        }
+    @Nullable
+    private static String getFontName(TitleBarButtonParams params) {
+        return params.hasFont() ? params.font.toString() : null;
     }
 
-    private void dontShowLabelOnLongPress(final int index) {
-        ViewUtils.runOnPreDraw(parent, new Runnable() {
-            @Override
-            public void run() {
-                ActionMenuView actionMenuView = ViewUtils.findChildByClass(parent, ActionMenuView.class);
-                if (actionMenuView != null && actionMenuView.getChildAt(index) != null) {
-                    actionMenuView.getChildAt(index).setOnLongClickListener(null);
-                }
-            }
-        });
+    private void setIcon() {
+        item.setIcon(hasIcon() ? buttonParams.icon : null);
     }
 
     private void setColor() {
@@ -84,52 +152,72 @@ class TitleBarButton implements MenuItem.OnMenuItemClickListener {
 
         if (hasIcon()) {
             setIconColor();
-        } else {
-            setTextColor();
         }
     }
 
     private void setIconColor() {
-        ViewUtils.tintDrawable(buttonParams.icon, buttonParams.color.getColor(), buttonParams.enabled);
-    }
-
-    private void setTextColor() {
-        ViewUtils.runOnPreDraw(parent, new Runnable() {
-            @Override
-            public void run() {
-                ArrayList<View> outViews = findActualTextViewInMenuByLabel();
-                setTextColorForFoundButtonViews(outViews);
-            }
-        });
+        buttonParams.icon = ViewUtils.tintDrawable(buttonParams.icon, buttonParams.color.getColor(), buttonParams.enabled);
+    }
+
+    /**
+     * Applies the text color and font, and removes the label tooltip from icon buttons without a label or restores it
+     * once the button has a label again. The action view only exists once the action menu has laid out the item, until
+     * then it's styled right before the next draw.
+     */
+    private void styleView() {
+        View view = getView();
+        if (view != null) {
+            styleView(view);
+        } else if (!isViewStylePending) {
+            isViewStylePending = true;
+            ViewUtils.runOnPreDraw(parent, new Runnable() {
+                @Override
+                public void run() {
+                    isViewStylePending = false;
+                    View view = getView();
+                    if (view != null) {
+                        styleView(view);
+                    }
+                }
+            });
+        }
     }
 
-    private void setFont() {
-        if (!buttonParams.hasFont()) {
+    private void styleView(View view) {
+        if (!(view instanceof TextView)) {
             return;
         }
-        ArrayList<View> buttons = findActualTextViewInMenuByLabel();
-        setTextFontForFoundButtonViews(buttons);
-    }
-
-    @NonNull
-    private ArrayList<View> findActualTextViewInMenuByLabel() {
-        ArrayList<View> outViews = new ArrayList<>();
-        parent.findViewsWithText(outViews, buttonParams.label, View.FIND_VIEWS_WITH_TEXT);
-        return outViews;
-    }
-
-    private void setTextColorForFoundButtonViews(ArrayList<View> buttons) {
-        for (View button : buttons) {
-            ((TextView) button).setTextColor(buttonParams.getColor().getColor());
+        TextView button = (TextView) view;
+        if (hasColor() && !disableIconTint() && !hasIcon()) {
+            button.setTextColor(buttonParams.getColor().getColor());
+        }
+        if (buttonParams.hasFont()) {
+            button.setTypeface(buttonParams.font.get());
+        }
+        if (hasIcon() && TextUtils.isEmpty(buttonParams.label)) {
+            button.setOnLongClickListener(null);
+        } else if (button instanceof View.OnLongClickListener) {
+            // The action menu's item view shows its label tooltip from its own long click listener
+            button.setOnLongClickListener((View.OnLongClickListener) button);
         }
     }
 
-    private void setTextFontForFoundButtonViews(ArrayList<View> buttons) {
-        for (View button : buttons) {
-            if (buttonParams.hasFont()) {
-                ((TextView) button).setTypeface(buttonParams.font.get());
+    @Nullable
+    private View getView() {
+        if (component != null) {
+            return component;
+        }
+        ActionMenuView actionMenuView = ViewUtils.findChildByClass(parent, ActionMenuView.class);
+        if (actionMenuView == null || item == null) {
+            return null;
+        }
+        for (int i = 0; i < actionMenuView.getChildCount(); i++) {
+            View child = actionMenuView.getChildAt(i);
+            if (child.getId() == item.getItemId() && !(child instanceof ContentView)) {
+                return child;
             }
         }
+        return null;
     }
 
     private boolean hasIcon() {
@@ -37,6 +37,7 @@ public class TopBar extends AppBarLayout {
     private VisibilityAnimator visibilityAnimator;
     @Nullable
     private Pair<String, ContentView> reactView;
+    private boolean isReactViewShared;
     private ViewOutlineProvider outlineProvider;
 
     public TopBar(Context context) {
@@ -105,30 +106,69 @@ public class TopBar extends AppBarLayout {
     public void setReactView(@NonNull StyleParams styleParams) {
         if (styleParams.hasTopBarCustomComponent()) {
             if (isReactViewAlreadySetAndUnchanged(styleParams)) {
+                if (isReactViewShared) {
+                    showSharedReactView(styleParams);
+                }
                 return;
             }
             unmountReactView();
-            reactView = new Pair<>(styleParams.topBarReactView, createReactView(styleParams));
-            int height = styleParams.hasCustomTitleBarHeight() ? (int) ViewUtils.convertDpToPixel(styleParams.titleBarHeight) : ViewUtils.getToolBarHeight();
-            if ("fill".equals(styleParams.topBarReactViewAlignment)) {
-                addReactViewFill(reactView.second, height);
+            isReactViewShared = styleParams.topBarReactViewShared;
+            if (isReactViewShared) {
+                reactView = new Pair<>(styleParams.topBarReactView, SharedTopBarReactViews.instance.acquire(getContext(), styleParams));
+                showSharedReactView(styleParams);
             } else {
-                addCenteredReactView(reactView.second, height);
+                reactView = new Pair<>(styleParams.topBarReactView, createReactView(styleParams));
+                addReactView(reactView.second, styleParams);
             }
         } else {
             unmountReactView();
         }
     }
 
+    /**
+     * Moves the shared root from the title bar of the screen which showed it last into this one
+     */
+    private void showSharedReactView(StyleParams styleParams) {
+        ContentView view = reactView.second;
+        if (view.getParent() == titleBar) {
+            return;
+        }
+        if (view.getParent() != null) {
+            ((ViewGroup) view.getParent()).removeView(view);
+        }
+        addReactView(view, styleParams);
+        SharedTopBarReactViews.instance.showProps(view, styleParams);
+    }
+
+    private void addReactView(ContentView view, StyleParams styleParams) {
+        int height = styleParams.hasCustomTitleBarHeight() ? (int) ViewUtils.convertDpToPixel(styleParams.titleBarHeight) : ViewUtils.getToolBarHeight();
+        if ("fill".equals(styleParams.topBarReactViewAlignment)) {
+            addReactViewFill(view, height);
+        } else {
+            addCenteredReactView(view, height);
+        }
+    }
+
     private void unmountReactView() {
         if (reactView == null) return;
-        titleBar.removeView(reactView.second);
-        reactView.second.unmountReactView();
+        if (reactView.second.getParent() == titleBar) {
+            titleBar.removeView(reactView.second);
+        }
+        releaseReactView();
+    }
+
+    private void releaseReactView() {
+        if (isReactViewShared) {
+            SharedTopBarReactViews.instance.release(reactView.first, reactView.second);
+        } else {
+            reactView.second.unmountReactView();
+        }
         reactView = null;
     }
 
     private boolean isReactViewAlreadySetAndUnchanged(@NonNull StyleParams styleParams) {
-        return reactView != null && styleParams.topBarReactView.equals(reactView.first);
+        return reactView != null && styleParams.topBarReactView.equals(reactView.first) &&
+               styleParams.topBarReactViewShared == isReactViewShared;
     }
 
     private ContentView createReactView(StyleParams styleParams) {
@@ -146,16 +186,24 @@ public class TopBar extends AppBarLayout {
 
     private void addCenteredReactView(final ContentView view, int height) {
         titleBar.addView(view, new LayoutParams(WRAP_CONTENT, height));
+        if (view.getChildCount() > 0) {
+            centerReactView(view);
+            return;
+        }
         view.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
-                view.getLayoutParams().width = (int) (float) view.getChildAt(0).getMeasuredWidth();
-                ((ActionBar.LayoutParams) view.getLayoutParams()).gravity = Gravity.CENTER;
-                view.requestLayout();
+                centerReactView(view);
             }
         });
     }
 
+    private void centerReactView(ContentView view) {
+        view.getLayoutParams().width = (int) (float) view.getChildAt(0).getMeasuredWidth();
+        ((ActionBar.LayoutParams) view.getLayoutParams()).gravity = Gravity.CENTER;
+        view.requestLayout();
+    }
+
     public void setButtonColor(StyleParams styleParams) {
         titleBar.setButtonColor(styleParams.titleBarButtonColor);
     }
@@ -254,8 +302,7 @@ public class TopBar extends AppBarLayout {
 
     public void destroy() {
         if (reactView != null) {
-            reactView.second.unmountReactView();
-            reactView = null;
+            releaseReactView();
         }
         titleBar.destroy();
     }
@@ -2,26 +2,50 @@ package com.reactnativenavigation.views.collapsingToolbar;
 
 public class CollapseAmount {
     final static CollapseAmount None = new CollapseAmount();
+    final static CollapseAmount Up = new CollapseAmount(CollapseCalculator.Direction.Up);
+    final static CollapseAmount Down = new CollapseAmount(CollapseCalculator.Direction.Down);
 
     private CollapseAmount() {}
 
-    private Float amount;
+    private float amount;
+    private boolean hasExactAmount;
     private CollapseCalculator.Direction direction;
 
     CollapseAmount(float amount) {
-        this.amount = amount;
+        set(amount);
     }
 
     public CollapseAmount(CollapseCalculator.Direction direction) {
         this.direction = direction;
     }
 
+    static CollapseAmount of(CollapseCalculator.Direction direction) {
+        switch (direction) {
+            case Up:
+                return Up;
+            case Down:
+                return Down;
+            default:
+                return None;
+        }
+    }
+
+    /**
+     * Reuses this instance for a new exact amount, so touch and animation frames don't allocate.
+     * Receivers must not hold on to the instance after handling it.
+     */
+    CollapseAmount set(float amount) {
+        this.amount = amount;
+        hasExactAmount = true;
+        return this;
+    }
+
     boolean canCollapse() {
-        return amount != null || this != None;
+        return hasExactAmount || this != None;
     }
 
     boolean hasExactAmount() {
-        return amount != null;
+        return hasExactAmount;
     }
 
     boolean collapseToTop() {
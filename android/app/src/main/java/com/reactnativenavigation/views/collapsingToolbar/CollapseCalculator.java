@@ -19,8 +19,12 @@ public class CollapseCalculator {
         Up, Down, None
     }
 
+    private static final int NO_TOUCH = -1;
+
     private float collapse;
-    private MotionEvent previousTouchEvent;
+    private final CollapseAmount collapseAmount = new CollapseAmount(0);
+    private int previousTouchAction = NO_TOUCH;
+    private float previousTouchRawY;
     private float touchDownY = -1;
     private float previousCollapseY = -1;
     private boolean isExpended;
@@ -62,7 +66,7 @@ public class CollapseCalculator {
                             }
 
                             if (canCollapse && totalCollapse != 0) {
-                                flingListener.onFling(new CollapseAmount(direction));
+                                flingListener.onFling(CollapseAmount.of(direction));
                                 if (direction == Direction.Up) {
                                     view.asView().postOnAnimation(new Runnable() {
                                         @Override
@@ -102,12 +106,12 @@ public class CollapseCalculator {
         final boolean isFling = flingDetector.onTouchEvent(event);
         CollapseAmount touchUpCollapse = shouldCollapseOnTouchUp(event, isFling);
         if (touchUpCollapse != CollapseAmount.None) {
-            previousTouchEvent = MotionEvent.obtain(event);
+            savePreviousTouch(event);
             return touchUpCollapse;
         }
 
         if (!isMoveEvent(event)) {
-            previousTouchEvent = MotionEvent.obtain(event);
+            savePreviousTouch(event);
             return CollapseAmount.None;
         }
 
@@ -116,17 +120,22 @@ public class CollapseCalculator {
             return calculateCollapse(event);
         } else {
             previousCollapseY = -1;
-            previousTouchEvent = MotionEvent.obtain(event);
+            savePreviousTouch(event);
             return CollapseAmount.None;
         }
     }
 
+    private void savePreviousTouch(MotionEvent event) {
+        previousTouchAction = event.getActionMasked();
+        previousTouchRawY = event.getRawY();
+    }
+
     private CollapseAmount shouldCollapseOnTouchUp(MotionEvent event, boolean isFling) {
         if (isTouchUp(event) && collapseBehaviour.shouldCollapseOnTouchUp() && !isFling) {
             final float visibilityPercentage = view.getCurrentCollapseValue() / view.getFinalCollapseValue();
             Direction direction = visibilityPercentage >= 0.5f ? Direction.Up : Direction.Down;
             if (canCollapse(direction) && totalCollapse != 0) {
-                return new CollapseAmount(direction);
+                return CollapseAmount.of(direction);
             }
         }
         return CollapseAmount.None;
@@ -161,10 +170,10 @@ public class CollapseCalculator {
         if (y == (previousCollapseY == -1 ? touchDownY : previousCollapseY)) {
             return Direction.None;
         }
-        if (previousTouchEvent == null) {
+        if (previousTouchAction == NO_TOUCH) {
             return Direction.None;
         }
-        return y < previousTouchEvent.getRawY() ?
+        return y < previousTouchRawY ?
                 Direction.Up :
                 Direction.Down;
     }
@@ -217,8 +226,8 @@ public class CollapseCalculator {
         totalCollapse += collapse;
         totalCollapseDeltaSinceTouchDown += Math.abs(y - previousCollapseY);
         previousCollapseY = y;
-        previousTouchEvent = MotionEvent.obtain(event);
-        return totalCollapseDeltaSinceTouchDown < scaledTouchSlop ? CollapseAmount.None : new CollapseAmount(collapse);
+        savePreviousTouch(event);
+        return totalCollapseDeltaSinceTouchDown < scaledTouchSlop ? CollapseAmount.None : collapseAmount.set(collapse);
     }
 
     private float calculateCollapse(float y) {
@@ -235,9 +244,9 @@ public class CollapseCalculator {
 
 
     private void updateInitialTouchY(MotionEvent event) {
-        if (isTouchDown(previousTouchEvent) && isMoveEvent(event)) {
-            saveInitialTouchY(previousTouchEvent);
-        } else if (isTouchUp(event) && isMoveEvent(previousTouchEvent)) {
+        if (previousTouchAction == MotionEvent.ACTION_DOWN && isMoveEvent(event)) {
+            saveInitialTouchY(previousTouchRawY);
+        } else if (isTouchUp(event) && previousTouchAction == MotionEvent.ACTION_MOVE) {
             clearInitialTouchY();
         }
     }
@@ -246,18 +255,14 @@ public class CollapseCalculator {
         return event != null && event.getActionMasked() == MotionEvent.ACTION_MOVE;
     }
 
-    private boolean isTouchDown(@Nullable MotionEvent event) {
-        return event != null && event.getActionMasked() == MotionEvent.ACTION_DOWN;
-    }
-
     private boolean isTouchUp(@Nullable MotionEvent event) {
         return event != null && event.getActionMasked() == MotionEvent.ACTION_UP;
     }
 
-    private void saveInitialTouchY(MotionEvent event) {
+    private void saveInitialTouchY(float rawY) {
         totalCollapse = 0;
         totalCollapseDeltaSinceTouchDown = 0;
-        touchDownY = event.getRawY();
+        touchDownY = rawY;
         scrollY = scrollView.getScrollY();
         previousCollapseY = touchDownY;
     }
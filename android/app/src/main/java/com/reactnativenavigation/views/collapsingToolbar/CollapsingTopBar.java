@@ -133,6 +133,9 @@ public class CollapsingTopBar extends TopBar implements CollapsingView {
         if (titleBar instanceof CollapsingTitleBar) {
             ((CollapsingTitleBar) titleBar).collapse(amount);
         }
+        if (!amount.hasExactAmount()) {
+            return;
+        }
         if (collapsingTopBarBackground != null) {
             collapsingTopBarBackground.collapse(amount.get());
         }
@@ -0,0 +1,190 @@
+package com.reactnativenavigation.views.collapsingToolbar;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.view.animation.AnimationUtils;
+import android.widget.OverScroller;
+import android.widget.ScrollView;
+
+import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBehaviour;
+
+/**
+ * Collapses the top bar from the nested scrolling callbacks of the screen's scrolling content instead of intercepting
+ * its touch events. The content scrolls as usual and the top bar consumes the part of each scroll delta it needs,
+ * so both move together on every frame. Flings are run by an {@link OverScroller} and a partially collapsed top bar
+ * is settled to the nearest edge with a critically damped spring.
+ *
+ * Nested scrolling is only dispatched by the framework on Lollipop and above; see {@link #isSupported()}.
+ */
+public class NestedScrollCollapser implements Runnable {
+    public interface OnCollapseListener {
+        void onCollapse(CollapseAmount amount);
+    }
+
+    private static final float SPRING_STIFFNESS = 400;
+    private static final float SPRING_DAMPING = 2 * (float) Math.sqrt(SPRING_STIFFNESS);
+    private static final float SETTLE_DISTANCE_THRESHOLD = 0.5f;
+    private static final float SETTLE_VELOCITY_THRESHOLD = 10;
+    private static final float MAX_FRAME_SECONDS = 1 / 30f;
+
+    private final CollapsingView topBar;
+    private final CollapseBehaviour collapseBehaviour;
+    private final OnCollapseListener listener;
+    private final OverScroller scroller;
+    private final CollapseAmount collapseAmount = new CollapseAmount(0);
+    private boolean isFlinging;
+    private boolean isSettling;
+    private float settleTarget;
+    private float settleVelocity;
+    private long lastFrameTime;
+
+    public static boolean isSupported() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP;
+    }
+
+    public NestedScrollCollapser(CollapsingView topBar, CollapseBehaviour collapseBehaviour, OnCollapseListener listener) {
+        this.topBar = topBar;
+        this.collapseBehaviour = collapseBehaviour;
+        this.listener = listener;
+        scroller = new OverScroller(topBar.asView().getContext());
+    }
+
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    public void onScrollViewAdded(ScrollView scrollView) {
+        scrollView.setNestedScrollingEnabled(true);
+    }
+
+    public boolean onStartNestedScroll(int axes) {
+        if ((axes & View.SCROLL_AXIS_VERTICAL) == 0) {
+            return false;
+        }
+        stopAnimation();
+        return true;
+    }
+
+    public void onNestedPreScroll(View target, int dy, int[] consumed) {
+        if (dy > 0 || (dy < 0 && canExpend(target))) {
+            consumed[1] = collapseBy(dy);
+        }
+    }
+
+    public void onNestedScroll(int dyUnconsumed) {
+        if (dyUnconsumed != 0) {
+            collapseBy(dyUnconsumed);
+        }
+    }
+
+    public boolean onNestedPreFling(View target, float velocityY) {
+        float current = topBar.getCurrentCollapseValue();
+        boolean collapsing = velocityY > 0 && current > topBar.getFinalCollapseValue();
+        boolean expanding = velocityY < 0 && current < 0 && canExpend(target);
+        if (collapsing || expanding) {
+            fling(-velocityY);
+        }
+        // The content flings as well, the top bar only follows it
+        return false;
+    }
+
+    public void onStopNestedScroll() {
+        if (!isFlinging) {
+            settle();
+        }
+    }
+
+    /**
+     * @return the part of the delta which was consumed by collapsing or expanding the top bar
+     */
+    private int collapseBy(int dy) {
+        float current = topBar.getCurrentCollapseValue();
+        float next = clamp(current - dy);
+        if (next == current) {
+            return 0;
+        }
+        apply(next);
+        return Math.round(current - next);
+    }
+
+    private boolean canExpend(View target) {
+        int scrollY = target.canScrollVertically(-1) ? Math.max(1, target.getScrollY()) : 0;
+        return collapseBehaviour.canExpend(scrollY);
+    }
+
+    private void fling(float velocity) {
+        stopAnimation();
+        int current = Math.round(topBar.getCurrentCollapseValue());
+        scroller.fling(0, current, 0, Math.round(velocity), 0, 0, Math.round(topBar.getFinalCollapseValue()), 0);
+        isFlinging = true;
+        topBar.asView().postOnAnimation(this);
+    }
+
+    private void settle() {
+        if (!collapseBehaviour.shouldCollapseOnTouchUp()) {
+            return;
+        }
+        float current = topBar.getCurrentCollapseValue();
+        float finalCollapseValue = topBar.getFinalCollapseValue();
+        if (current == 0 || current == finalCollapseValue) {
+            return;
+        }
+        settleTarget = current / finalCollapseValue >= 0.5f ? finalCollapseValue : 0;
+        settleVelocity = 0;
+        isSettling = true;
+        lastFrameTime = AnimationUtils.currentAnimationTimeMillis();
+        topBar.asView().postOnAnimation(this);
+    }
+
+    @Override
+    public void run() {
+        if (isFlinging) {
+            if (scroller.computeScrollOffset()) {
+                apply(clamp(scroller.getCurrY()));
+                topBar.asView().postOnAnimation(this);
+            } else {
+                isFlinging = false;
+                settle();
+            }
+        } else if (isSettling) {
+            stepSpring();
+        }
+    }
+
+    private void stepSpring() {
+        long now = AnimationUtils.currentAnimationTimeMillis();
+        float dt = Math.min((now - lastFrameTime) / 1000f, MAX_FRAME_SECONDS);
+        lastFrameTime = now;
+
+        float current = topBar.getCurrentCollapseValue();
+        float acceleration = -SPRING_STIFFNESS * (current - settleTarget) - SPRING_DAMPING * settleVelocity;
+        settleVelocity += acceleration * dt;
+        float next = current + settleVelocity * dt;
+        if (Math.abs(next - settleTarget) < SETTLE_DISTANCE_THRESHOLD && Math.abs(settleVelocity) < SETTLE_VELOCITY_THRESHOLD) {
+            isSettling = false;
+            apply(settleTarget);
+            return;
+        }
+        apply(clamp(next));
+        topBar.asView().postOnAnimation(this);
+    }
+
+    private void stopAnimation() {
+        if (isFlinging) {
+            scroller.abortAnimation();
+            isFlinging = false;
+        }
+        isSettling = false;
+        topBar.asView().removeCallbacks(this);
+    }
+
+    private float clamp(float collapse) {
+        return Math.max(topBar.getFinalCollapseValue(), Math.min(0, collapse));
+    }
+
+    private void apply(float collapse) {
+        listener.onCollapse(collapseAmount.set(collapse));
+    }
+
+    public void destroy() {
+        stopAnimation();
+    }
+}
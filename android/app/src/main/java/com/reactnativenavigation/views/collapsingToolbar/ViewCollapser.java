@@ -12,7 +12,9 @@ import android.view.animation.DecelerateInterpolator;
 public class ViewCollapser {
     private static final int DURATION = 160;
     private static final int FLING_DURATION = 160;
+    private static final DecelerateInterpolator FLING_INTERPOLATOR = new DecelerateInterpolator();
     private CollapsingView view;
+    private final CollapseAmount flingAmount = new CollapseAmount(0);
 
     private final ValueAnimator.AnimatorUpdateListener LISTENER =
             new ValueAnimator.AnimatorUpdateListener() {
@@ -20,6 +22,17 @@ public class ViewCollapser {
                 public void onAnimationUpdate(ValueAnimator animation) {
                 }
             };
+    private final AnimatorListenerAdapter animatorListener = new AnimatorListenerAdapter() {
+        @Override
+        public void onAnimationCancel(Animator animation) {
+            animator = null;
+        }
+
+        @Override
+        public void onAnimationEnd(Animator animation) {
+            animator = null;
+        }
+    };
     private ViewPropertyAnimator animator;
     private ObjectAnimator flingAnimator;
 
@@ -54,17 +67,7 @@ public class ViewCollapser {
         animator = view.asView().animate()
                 .translationY(translation)
                 .setDuration(DURATION)
-                .setListener(new AnimatorListenerAdapter() {
-                    @Override
-                    public void onAnimationCancel(Animator animation) {
-                        animator = null;
-                    }
-
-                    @Override
-                    public void onAnimationEnd(Animator animation) {
-                        animator = null;
-                    }
-                });
+                .setListener(animatorListener);
         animator.start();
     }
 
@@ -72,8 +75,9 @@ public class ViewCollapser {
         fling(amount, new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(ValueAnimator animation) {
-                titleBar.collapse(new CollapseAmount((Float) animation.getAnimatedValue()));
-                header.collapse((Float) animation.getAnimatedValue());
+                float value = (Float) animation.getAnimatedValue();
+                titleBar.collapse(flingAmount.set(value));
+                header.collapse(value);
             }
         });
     }
@@ -82,7 +86,7 @@ public class ViewCollapser {
         fling(amount, new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(ValueAnimator animation) {
-                titleBar.collapse(new CollapseAmount((Float) animation.getAnimatedValue()));
+                titleBar.collapse(flingAmount.set((Float) animation.getAnimatedValue()));
             }
         });
     }
@@ -96,19 +100,8 @@ public class ViewCollapser {
         final float translation = amount.collapseToTop() ? view.getFinalCollapseValue() : 0;
         flingAnimator = ObjectAnimator.ofFloat(view.asView(), View.TRANSLATION_Y, translation);
         flingAnimator.setDuration(FLING_DURATION);
-        flingAnimator.setInterpolator(new DecelerateInterpolator());
-        flingAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                updateListener.onAnimationUpdate(animation);
-            }
-        });
-        flingAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                updateListener.onAnimationUpdate(animation);
-            }
-        });
+        flingAnimator.setInterpolator(FLING_INTERPOLATOR);
+        flingAnimator.addUpdateListener(updateListener);
         flingAnimator.addListener(new AnimatorListenerAdapter() {
             @Override
             public void onAnimationCancel(Animator animation) {
@@ -53,12 +53,23 @@ public class SharedElementTransitionManager extends ViewGroupManager<SharedEleme
         view.paramsParser.animateClipBounds = animateClipBounds;
     }
 
+    @ReactProp(name = "snapshot")
+    public void setSnapshot(SharedElementTransition view, boolean snapshot) {
+        view.paramsParser.snapshot = snapshot;
+    }
+
     @Override
     protected void onAfterUpdateTransaction(SharedElementTransition view) {
         view.showTransitionParams = view.paramsParser.parseShowTransitionParams();
         view.hideTransitionParams = view.paramsParser.parseHideTransitionParams();
     }
 
+    @Override
+    public void onDropViewInstance(SharedElementTransition view) {
+        view.unregisterSharedElementTransition();
+        super.onDropViewInstance(view);
+    }
+
     @Override
     public boolean needsCustomLayoutForChildren() {
         return true;
@@ -5,8 +5,8 @@ import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
 
 class ReversedAnimatorValuesResolver extends AnimatorValuesResolver {
 
-    ReversedAnimatorValuesResolver(SharedElementTransition from, SharedElementTransition to, SharedElementTransitionParams params) {
-        super(from, to, params);
+    ReversedAnimatorValuesResolver(TransitionPlan plan, SharedElementTransitionParams params) {
+        super(plan, params);
     }
 
     @Override
@@ -18,22 +18,22 @@ class ReversedAnimatorValuesResolver extends AnimatorValuesResolver {
     }
 
     @Override
-    protected float calculateEndScaleY(SharedElementTransition from, SharedElementTransition to) {
-        return ((float) to.getHeight()) / from.getHeight();
+    protected float calculateEndScaleY(TransitionPlan plan) {
+        return ((float) plan.toHeight) / plan.fromHeight;
     }
 
     @Override
-    protected float calculateStartScaleY(SharedElementTransition from, SharedElementTransition to) {
+    protected float calculateStartScaleY(TransitionPlan plan) {
         return 1;
     }
 
     @Override
-    protected float calculateEndScaleX(SharedElementTransition from, SharedElementTransition to) {
-        return ((float) to.getWidth()) / from.getWidth();
+    protected float calculateEndScaleX(TransitionPlan plan) {
+        return ((float) plan.toWidth) / plan.fromWidth;
     }
 
     @Override
-    protected float calculateStartScaleX(SharedElementTransition from, SharedElementTransition to) {
+    protected float calculateStartScaleX(TransitionPlan plan) {
         return 1;
     }
 
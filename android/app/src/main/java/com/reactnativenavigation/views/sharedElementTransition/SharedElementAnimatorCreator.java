@@ -13,8 +13,7 @@ import com.reactnativenavigation.params.PathInterpolationParams;
 import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
 import com.reactnativenavigation.views.utils.AnimatorPath;
 import com.reactnativenavigation.views.utils.ClipBoundsEvaluator;
-import com.reactnativenavigation.views.utils.ColorUtils;
-import com.reactnativenavigation.views.utils.LabColorEvaluator;
+import com.reactnativenavigation.views.utils.LabColorRamp;
 import com.reactnativenavigation.views.utils.PathEvaluator;
 
 import java.util.ArrayList;
@@ -31,12 +30,18 @@ class SharedElementAnimatorCreator {
         this.to = to;
     }
 
-    List<Animator> createShow() {
-        return create(new AnimatorValuesResolver(from, to, to.showTransitionParams), to.showTransitionParams);
+    /**
+     * @param plan measured from {@link #from} to {@link #to}
+     */
+    List<Animator> createShow(TransitionPlan plan) {
+        return create(new AnimatorValuesResolver(plan, to.showTransitionParams), to.showTransitionParams);
     }
 
-    List<Animator> createHide() {
-        return create(new ReversedAnimatorValuesResolver(to, from, to.hideTransitionParams), to.hideTransitionParams);
+    /**
+     * @param plan measured from {@link #to} to {@link #from}
+     */
+    List<Animator> createHide(TransitionPlan plan) {
+        return create(new ReversedAnimatorValuesResolver(plan, to.hideTransitionParams), to.hideTransitionParams);
     }
 
     @NonNull
@@ -143,13 +148,8 @@ class SharedElementAnimatorCreator {
     }
 
     private ObjectAnimator createColorAnimator(AnimatorValuesResolver resolver, int duration) {
-        return ObjectAnimator.ofObject(
-                to,
-                "textColor",
-                new LabColorEvaluator(),
-                ColorUtils.colorToLAB(resolver.startColor),
-                ColorUtils.colorToLAB(resolver.endColor))
-                .setDuration(duration);
+        to.setTextColorRamp(new LabColorRamp(resolver.startColor, resolver.endColor));
+        return ObjectAnimator.ofFloat(to, "textColorFraction", 0, 1).setDuration(duration);
     }
 
     private ObjectAnimator createImageClipBoundsAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
@@ -0,0 +1,106 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.support.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared elements by key. Elements are only weakly referenced so a screen never keeps element views which were
+ * removed from another screen reachable. At most {@link #MAX_ELEMENTS} elements are kept, once full the element
+ * registered first is dropped.
+ */
+class SharedElementRegistry {
+    static final int MAX_ELEMENTS = 64;
+
+    private final Map<String, WeakReference<SharedElementTransition>> elements = new LinkedHashMap<>();
+
+    void put(String key, SharedElementTransition element) {
+        elements.remove(key);
+        if (elements.size() >= MAX_ELEMENTS) {
+            purge();
+        }
+        if (elements.size() >= MAX_ELEMENTS) {
+            Iterator<String> eldest = elements.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+        }
+        elements.put(key, new WeakReference<>(element));
+    }
+
+    @Nullable
+    SharedElementTransition get(String key) {
+        WeakReference<SharedElementTransition> reference = elements.get(key);
+        return reference == null ? null : reference.get();
+    }
+
+    boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Removes the key only if it's still registered to the given element.
+     */
+    void remove(String key, SharedElementTransition element) {
+        if (get(key) == element) {
+            elements.remove(key);
+        }
+    }
+
+    void remove(String key) {
+        elements.remove(key);
+    }
+
+    /**
+     * @return a copy of the keys of elements which are still alive
+     */
+    List<String> keys() {
+        purge();
+        return new ArrayList<>(elements.keySet());
+    }
+
+    List<SharedElementTransition> values() {
+        List<SharedElementTransition> result = new ArrayList<>(elements.size());
+        for (WeakReference<SharedElementTransition> reference : elements.values()) {
+            SharedElementTransition element = reference.get();
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    Map<String, SharedElementTransition> toMap() {
+        Map<String, SharedElementTransition> result = new HashMap<>();
+        for (Map.Entry<String, WeakReference<SharedElementTransition>> entry : elements.entrySet()) {
+            SharedElementTransition element = entry.getValue().get();
+            if (element != null) {
+                result.put(entry.getKey(), element);
+            }
+        }
+        return result;
+    }
+
+    boolean isEmpty() {
+        purge();
+        return elements.isEmpty();
+    }
+
+    void clear() {
+        elements.clear();
+    }
+
+    private void purge() {
+        Iterator<WeakReference<SharedElementTransition>> iterator = elements.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() == null) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -5,7 +5,11 @@ import android.graphics.Rect;
 import android.os.Build;
 import android.support.annotation.Keep;
 import android.text.SpannableString;
+import android.text.Spanned;
 import android.text.SpannedString;
+import android.text.TextPaint;
+import android.text.style.CharacterStyle;
+import android.text.style.UpdateAppearance;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewManager;
@@ -23,7 +27,7 @@ import com.reactnativenavigation.react.ReactViewHacks;
 import com.reactnativenavigation.screens.Screen;
 import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.utils.ViewUtils;
-import com.reactnativenavigation.views.utils.ColorUtils;
+import com.reactnativenavigation.views.utils.LabColorRamp;
 import com.reactnativenavigation.views.utils.PathPoint;
 import com.reactnativenavigation.views.utils.Point;
 
@@ -40,6 +44,10 @@ public class SharedElementTransition extends FrameLayout {
     private int childHeight = -1;
     private SpannableString spannableText;
     private SpannedString spannedText;
+    private LabColorRamp textColorRamp;
+    private final TextColorSpan textColorSpan = new TextColorSpan();
+    private SharedElements registeredElements;
+    private String registeredKey;
 
     public View getSharedView() {
         return child;
@@ -56,13 +64,24 @@ public class SharedElementTransition extends FrameLayout {
                 ViewUtils.performOnParentScreen(SharedElementTransition.this, new Task<Screen>() {
                     @Override
                     public void run(Screen screen) {
+                        unregisterSharedElementTransition();
                         screen.registerSharedElement(SharedElementTransition.this, key);
+                        registeredElements = screen.sharedElements;
+                        registeredKey = key;
                     }
                 });
             }
         });
     }
 
+    public void unregisterSharedElementTransition() {
+        if (registeredElements != null) {
+            registeredElements.removeToElement(this, registeredKey);
+            registeredElements = null;
+            registeredKey = null;
+        }
+    }
+
     @Override
     public void onViewAdded(final View child) {
         if (child instanceof ReactImageView && this.child == null) {
@@ -95,10 +114,26 @@ public class SharedElementTransition extends FrameLayout {
         child.setTranslationY(xy.mY);
     }
 
+    public void setTextColorRamp(LabColorRamp textColorRamp) {
+        this.textColorRamp = textColorRamp;
+    }
+
     @Keep
-    public void setTextColor(double[] color) {
-        if (child instanceof TextView) {
-            ViewUtils.setSpanColor(spannableText, ColorUtils.labToColor(color));
+    public void setTextColorFraction(float fraction) {
+        if (!(child instanceof TextView) || spannableText == null || textColorRamp == null) {
+            return;
+        }
+        int color = textColorRamp.getColor(fraction);
+        boolean isSpanAttached = spannableText.getSpanStart(textColorSpan) != -1;
+        if (isSpanAttached && textColorSpan.color == color) {
+            return;
+        }
+        textColorSpan.color = color;
+        if (isSpanAttached) {
+            // The span is read when the text is drawn, so the layout doesn't have to be rebuilt
+            child.invalidate();
+        } else {
+            spannableText.setSpan(textColorSpan, 0, spannableText.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
             ((TextView) child).setText(spannableText);
         }
     }
@@ -176,4 +211,13 @@ public class SharedElementTransition extends FrameLayout {
         setVisibility(INVISIBLE);
         child.setAlpha(0);
     }
+
+    private static class TextColorSpan extends CharacterStyle implements UpdateAppearance {
+        int color;
+
+        @Override
+        public void updateDrawState(TextPaint paint) {
+            paint.setColor(color);
+        }
+    }
 }
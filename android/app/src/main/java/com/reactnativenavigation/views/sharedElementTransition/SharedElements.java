@@ -6,14 +6,14 @@ import com.reactnativenavigation.utils.ViewUtils;
 import com.reactnativenavigation.utils.ViewVisibilityChecker;
 
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SharedElements {
-    // These need to be weak references or better yet - clear them in `onViewRemoved`
-    Map<String, SharedElementTransition> toElements;
-    private Map<String, SharedElementTransition> fromElements;
+    final SharedElementRegistry toElements = new SharedElementRegistry();
+    private final SharedElementRegistry fromElements = new SharedElementRegistry();
+    private final Map<String, TransitionPlan> plans = new HashMap<>();
 
     public void setFromElements(Map<String, SharedElementTransition> fromElements) {
         this.fromElements.clear();
@@ -34,7 +34,7 @@ public class SharedElements {
     }
 
     public Map<String, SharedElementTransition> getToElements() {
-        return toElements;
+        return toElements.toMap();
     }
 
     SharedElementTransition getFromElement(String key) {
@@ -45,18 +45,42 @@ public class SharedElements {
         return toElements.get(key);
     }
 
+    /**
+     * Measures the transition from the from element to the to element and keeps it for the matching hide.
+     */
+    TransitionPlan getShowPlan(String key) {
+        TransitionPlan plan = new TransitionPlan(getFromElement(key), getToElement(key));
+        plans.put(key, plan);
+        return plan;
+    }
+
+    /**
+     * @return the inverted show plan if the elements didn't move or change size since they were shown,
+     * otherwise a new plan measured from the from element to the to element
+     */
+    TransitionPlan getHidePlan(String key) {
+        SharedElementTransition from = getFromElement(key);
+        SharedElementTransition to = getToElement(key);
+        TransitionPlan showPlan = plans.remove(key);
+        if (showPlan != null && showPlan.isValidFor(to, from)) {
+            return showPlan.inverted();
+        }
+        return new TransitionPlan(from, to);
+    }
+
     public void addToElement(SharedElementTransition sharedElement, String key) {
         toElements.put(key, sharedElement);
     }
 
-    public SharedElements() {
-        toElements = new HashMap<>();
-        this.fromElements = new HashMap<>();
+    public void removeToElement(SharedElementTransition sharedElement, String key) {
+        toElements.remove(key, sharedElement);
+        plans.remove(key);
     }
 
     void performWhenChildViewsAreDrawn(final Runnable onReady) {
-        final AtomicInteger latch = new AtomicInteger(toElements.size());
-        for (SharedElementTransition toElement : toElements.values()) {
+        List<SharedElementTransition> elements = toElements.values();
+        final AtomicInteger latch = new AtomicInteger(elements.size());
+        for (SharedElementTransition toElement : elements) {
             ViewUtils.runOnPreDraw(toElement.getSharedView(), new Runnable() {
                 @Override
                 public void run() {
@@ -81,8 +105,9 @@ public class SharedElements {
     }
 
     void showToElements(final Runnable onReady) {
-        final AtomicInteger latch = new AtomicInteger(toElements.size());
-        for (final SharedElementTransition toElement : toElements.values()) {
+        List<SharedElementTransition> elements = toElements.values();
+        final AtomicInteger latch = new AtomicInteger(elements.size());
+        for (final SharedElementTransition toElement : elements) {
             toElement.show();
             ViewUtils.runOnPreDraw(toElement, new Runnable() {
                 @Override
@@ -112,6 +137,12 @@ public class SharedElements {
         }
     }
 
+    void revealToElements() {
+        for (SharedElementTransition toElement : toElements.values()) {
+            toElement.show();
+        }
+    }
+
     void showToElements() {
         for (SharedElementTransition toElement : toElements.values()) {
             toElement.setVisibility(View.VISIBLE);
@@ -126,17 +157,19 @@ public class SharedElements {
     }
 
     public void destroy() {
+        plans.clear();
         toElements.clear();
         fromElements.clear();
     }
 
     public void removeHiddenElements() {
-        Iterator<String> iterator = toElements.keySet().iterator();
-        while (iterator.hasNext()) {
-            String key = iterator.next();
+        for (String key : toElements.keys()) {
             if (!ViewVisibilityChecker.check(toElements.get(key))) {
-                iterator.remove();
-                fromElements.get(key).show();
+                toElements.remove(key);
+                SharedElementTransition fromElement = fromElements.get(key);
+                if (fromElement != null) {
+                    fromElement.show();
+                }
             }
         }
     }
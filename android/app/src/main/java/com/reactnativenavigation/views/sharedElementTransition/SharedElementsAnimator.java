@@ -4,6 +4,8 @@ import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
 import android.animation.AnimatorSet;
 
+import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +21,10 @@ public class SharedElementsAnimator {
         sharedElements.performWhenChildViewsAreDrawn(new Runnable()  {
             @Override
             public void run() {
+                if (shouldUseSnapshots(true)) {
+                    showSnapshots(onAnimationStart, onAnimationEnd);
+                    return;
+                }
                 final AnimatorSet animatorSet = createShowAnimators();
                 sharedElements.attachChildViewsToScreen();
                 sharedElements.showToElements(new Runnable() {
@@ -55,10 +61,10 @@ public class SharedElementsAnimator {
 
             private List<Animator> createTransitionAnimators() {
                 List<Animator> result = new ArrayList<>();
-                for (String key : sharedElements.toElements.keySet()) {
+                for (String key : sharedElements.toElements.keys()) {
                     SharedElementTransition toElement = sharedElements.getToElement(key);
                     SharedElementTransition fromElement = sharedElements.getFromElement(key);
-                    result.addAll(new SharedElementAnimatorCreator(fromElement, toElement).createShow());
+                    result.addAll(new SharedElementAnimatorCreator(fromElement, toElement).createShow(sharedElements.getShowPlan(key)));
                 }
                 return result;
             }
@@ -66,6 +72,10 @@ public class SharedElementsAnimator {
     }
 
     public void hide(final Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        if (shouldUseSnapshots(false)) {
+            hideSnapshots(onAnimationStart, onAnimationEnd);
+            return;
+        }
         AnimatorSet animatorSet = new AnimatorSet();
         animatorSet.playTogether(createHideTransitionAnimators());
         animatorSet.addListener(new AnimatorListenerAdapter() {
@@ -86,9 +96,83 @@ public class SharedElementsAnimator {
 
     private List<Animator> createHideTransitionAnimators() {
         List<Animator> result = new ArrayList<>();
-        for (String key : sharedElements.toElements.keySet()) {
-            result.addAll(new SharedElementAnimatorCreator(sharedElements.getToElement(key), sharedElements.getFromElement(key)).createHide());
+        for (String key : sharedElements.toElements.keys()) {
+            SharedElementAnimatorCreator creator =
+                    new SharedElementAnimatorCreator(sharedElements.getToElement(key), sharedElements.getFromElement(key));
+            result.addAll(creator.createHide(sharedElements.getHidePlan(key)));
         }
         return result;
     }
+
+    private boolean shouldUseSnapshots(boolean show) {
+        if (!SnapshotTransition.isSupported() || sharedElements.toElements.isEmpty()) {
+            return false;
+        }
+        for (String key : sharedElements.toElements.keys()) {
+            SharedElementTransition toElement = sharedElements.getToElement(key);
+            SharedElementTransition fromElement = sharedElements.getFromElement(key);
+            SharedElementTransitionParams params = show ? toElement.showTransitionParams : fromElement.hideTransitionParams;
+            if (!params.snapshot || !SnapshotTransition.canCapture(fromElement) || !SnapshotTransition.canCapture(toElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void showSnapshots(final Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        SnapshotTransition transition = createSnapshotTransition();
+        List<Animator> animators = new ArrayList<>();
+        for (String key : sharedElements.toElements.keys()) {
+            SharedElementTransition toElement = sharedElements.getToElement(key);
+            animators.add(transition.add(sharedElements.getFromElement(key), toElement, toElement.showTransitionParams));
+        }
+        sharedElements.hideFromElements();
+        startSnapshots(transition, animators, onAnimationStart, new Runnable() {
+            @Override
+            public void run() {
+                sharedElements.revealToElements();
+                onAnimationEnd.run();
+            }
+        });
+    }
+
+    private void hideSnapshots(final Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        SnapshotTransition transition = createSnapshotTransition();
+        List<Animator> animators = new ArrayList<>();
+        for (String key : sharedElements.toElements.keys()) {
+            SharedElementTransition fromElement = sharedElements.getFromElement(key);
+            animators.add(transition.add(fromElement, sharedElements.getToElement(key), fromElement.hideTransitionParams));
+        }
+        sharedElements.hideFromElements();
+        startSnapshots(transition, animators, onAnimationStart, new Runnable() {
+            @Override
+            public void run() {
+                sharedElements.showToElements();
+                onAnimationEnd.run();
+            }
+        });
+    }
+
+    private SnapshotTransition createSnapshotTransition() {
+        return new SnapshotTransition(sharedElements.toElements.values().iterator().next());
+    }
+
+    private void startSnapshots(final SnapshotTransition transition, List<Animator> animators,
+                                final Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        AnimatorSet animatorSet = new AnimatorSet();
+        animatorSet.playTogether(animators);
+        animatorSet.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationStart(Animator animation) {
+                onAnimationStart.run();
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                transition.clear();
+                onAnimationEnd.run();
+            }
+        });
+        animatorSet.start();
+    }
 }
@@ -0,0 +1,128 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.graphics.drawable.BitmapDrawable;
+import android.os.Build;
+import android.view.View;
+import android.view.ViewOverlay;
+
+import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Animates bitmap snapshots of shared elements in the window's overlay, above both screens. The real views are
+ * hidden while the snapshots move and are neither moved nor re-parented, so the transition doesn't cause any layout.
+ * Each snapshot moves and resizes linearly from the source bounds to the target bounds while cross fading from the
+ * source to the target bitmap.
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+class SnapshotTransition {
+    private final ViewOverlay overlay;
+    private final int[] hostLocation = new int[2];
+    private final int[] location = new int[2];
+    private final List<Snapshot> snapshots = new ArrayList<>();
+
+    static boolean isSupported() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+    }
+
+    static boolean canCapture(SharedElementTransition element) {
+        View view = element.getSharedView();
+        return view != null && view.getWidth() > 0 && view.getHeight() > 0;
+    }
+
+    /**
+     * @param view any view in the window whose overlay the snapshots are drawn in
+     */
+    SnapshotTransition(View view) {
+        View host = view.getRootView();
+        overlay = host.getOverlay();
+        host.getLocationInWindow(hostLocation);
+    }
+
+    Animator add(SharedElementTransition source, SharedElementTransition target, SharedElementTransitionParams params) {
+        Snapshot snapshot = new Snapshot(capture(source.getSharedView()), capture(target.getSharedView()));
+        getBounds(source.getSharedView(), snapshot.from);
+        getBounds(target.getSharedView(), snapshot.to);
+        snapshot.onFraction(0);
+        overlay.add(snapshot.source);
+        overlay.add(snapshot.target);
+        snapshots.add(snapshot);
+
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        animator.setDuration(params.duration);
+        animator.setInterpolator(params.interpolation.easing.getInterpolator());
+        animator.addUpdateListener(snapshot);
+        return animator;
+    }
+
+    /**
+     * Removes the snapshots from the overlay. Their bitmaps aren't recycled since the render thread may still draw
+     * the last frame which references them; they're collected once the snapshots are dropped.
+     */
+    void clear() {
+        for (Snapshot snapshot : snapshots) {
+            overlay.remove(snapshot.source);
+            overlay.remove(snapshot.target);
+        }
+        snapshots.clear();
+    }
+
+    private BitmapDrawable capture(View view) {
+        Bitmap bitmap = Bitmap.createBitmap(view.getWidth(), view.getHeight(), Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        canvas.translate(-view.getScrollX(), -view.getScrollY());
+        // Drawing the view directly ignores its alpha and transformations, so hidden views can be captured too
+        view.draw(canvas);
+        return new BitmapDrawable(view.getResources(), bitmap);
+    }
+
+    private void getBounds(View view, Rect outRect) {
+        view.getLocationInWindow(location);
+        int left = location[0] - hostLocation[0];
+        int top = location[1] - hostLocation[1];
+        outRect.set(left, top, left + view.getWidth(), top + view.getHeight());
+    }
+
+    private static class Snapshot implements ValueAnimator.AnimatorUpdateListener {
+        final BitmapDrawable source;
+        final BitmapDrawable target;
+        final Rect from = new Rect();
+        final Rect to = new Rect();
+        private final Rect current = new Rect();
+
+        Snapshot(BitmapDrawable source, BitmapDrawable target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public void onAnimationUpdate(ValueAnimator animation) {
+            onFraction((float) animation.getAnimatedValue());
+        }
+
+        void onFraction(float fraction) {
+            current.set(
+                    interpolate(from.left, to.left, fraction),
+                    interpolate(from.top, to.top, fraction),
+                    interpolate(from.right, to.right, fraction),
+                    interpolate(from.bottom, to.bottom, fraction)
+            );
+            source.setBounds(current);
+            target.setBounds(current);
+            source.setAlpha(Math.round(255 * (1 - fraction)));
+            target.setAlpha(Math.round(255 * fraction));
+        }
+
+        private static int interpolate(int start, int end, float fraction) {
+            return Math.round(start + (end - start) * fraction);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.graphics.Rect;
+import android.text.style.ForegroundColorSpan;
+import android.view.View;
+import android.widget.TextView;
+
+import com.facebook.drawee.drawable.ScalingUtils;
+import com.facebook.drawee.generic.GenericDraweeHierarchy;
+import com.facebook.drawee.view.DraweeView;
+import com.facebook.react.views.image.ReactImageView;
+import com.reactnativenavigation.utils.ViewUtils;
+import com.reactnativenavigation.views.utils.Point;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Everything measured from a pair of shared elements to animate between them: positions, sizes, text colors,
+ * drawing rects and image bounds and scale types. A plan measured when a screen is pushed is reused, inverted,
+ * when it's popped, unless one of the elements was moved or resized in between.
+ */
+class TransitionPlan {
+    private final WeakReference<SharedElementTransition> from;
+    private final WeakReference<SharedElementTransition> to;
+    final Point fromXy;
+    final Point toXy;
+    final int fromWidth;
+    final int fromHeight;
+    final int toWidth;
+    final int toHeight;
+    final int startColor;
+    final int endColor;
+    final Rect startDrawingRect;
+    final Rect endDrawingRect;
+    final Rect fromBounds;
+    final Rect toBounds;
+    final ScalingUtils.ScaleType fromScaleType;
+    final ScalingUtils.ScaleType toScaleType;
+
+    TransitionPlan(SharedElementTransition from, SharedElementTransition to) {
+        this.from = new WeakReference<>(from);
+        this.to = new WeakReference<>(to);
+        fromXy = ViewUtils.getLocationOnScreen(from.getSharedView());
+        toXy = ViewUtils.getLocationOnScreen(to.getSharedView());
+        fromWidth = from.getWidth();
+        fromHeight = from.getHeight();
+        toWidth = to.getWidth();
+        toHeight = to.getHeight();
+        startColor = getTextColor(from, to, from);
+        endColor = getTextColor(from, to, to);
+        startDrawingRect = new Rect();
+        from.getDrawingRect(startDrawingRect);
+        endDrawingRect = new Rect();
+        to.getDrawingRect(endDrawingRect);
+        fromBounds = getBounds(from);
+        toBounds = getBounds(to);
+        fromScaleType = getScaleType(from);
+        toScaleType = getScaleType(to);
+    }
+
+    private TransitionPlan(TransitionPlan plan) {
+        from = plan.to;
+        to = plan.from;
+        fromXy = plan.toXy;
+        toXy = plan.fromXy;
+        fromWidth = plan.toWidth;
+        fromHeight = plan.toHeight;
+        toWidth = plan.fromWidth;
+        toHeight = plan.fromHeight;
+        startColor = plan.endColor;
+        endColor = plan.startColor;
+        startDrawingRect = plan.endDrawingRect;
+        endDrawingRect = plan.startDrawingRect;
+        fromBounds = plan.toBounds;
+        toBounds = plan.fromBounds;
+        fromScaleType = plan.toScaleType;
+        toScaleType = plan.fromScaleType;
+    }
+
+    /**
+     * @return the plan for animating from the to element back to the from element
+     */
+    TransitionPlan inverted() {
+        return new TransitionPlan(this);
+    }
+
+    /**
+     * @return true if the plan was measured for the given elements and neither of them moved or changed size since
+     */
+    boolean isValidFor(SharedElementTransition from, SharedElementTransition to) {
+        return this.from.get() == from && this.to.get() == to &&
+               from.getWidth() == fromWidth && from.getHeight() == fromHeight &&
+               to.getWidth() == toWidth && to.getHeight() == toHeight &&
+               isAt(from.getSharedView(), fromXy) && isAt(to.getSharedView(), toXy);
+    }
+
+    private static boolean isAt(View view, Point xy) {
+        Point current = ViewUtils.getLocationOnScreen(view);
+        return current.x == xy.x && current.y == xy.y;
+    }
+
+    private static int getTextColor(SharedElementTransition from, SharedElementTransition to, SharedElementTransition view) {
+        if (from.getSharedView() instanceof TextView && to.getSharedView() instanceof TextView) {
+            ForegroundColorSpan[] spans = ViewUtils.getForegroundColorSpans((TextView) view.getSharedView());
+            if (spans.length > 0) {
+                return spans[0].getForegroundColor();
+            }
+        }
+        return 0;
+    }
+
+    private static Rect getBounds(SharedElementTransition view) {
+        if (view.getSharedView() instanceof ReactImageView) {
+            return new Rect(0, 0, view.getSharedView().getWidth(), view.getSharedView().getHeight());
+        }
+        return null;
+    }
+
+    private static ScalingUtils.ScaleType getScaleType(SharedElementTransition view) {
+        if (view.getSharedView() instanceof ReactImageView) {
+            return ((DraweeView<GenericDraweeHierarchy>) view.getSharedView()).getHierarchy().getActualImageScaleType();
+        }
+        return null;
+    }
+}
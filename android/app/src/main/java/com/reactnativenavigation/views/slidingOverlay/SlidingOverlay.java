@@ -44,6 +44,14 @@ public class SlidingOverlay {
         return params.autoDismissTimerSec;
     }
 
+    public String getKey() {
+        return params.key;
+    }
+
+    public int getPriority() {
+        return params.priority;
+    }
+
     public void show() {
         view = createSlidingOverlayView(params);
         parent.addView(view);
@@ -1,35 +1,46 @@
 package com.reactnativenavigation.views.slidingOverlay;
 
+import android.os.Handler;
+import android.os.Looper;
+
 import com.reactnativenavigation.NavigationApplication;
 
 import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Timer;
-import java.util.TimerTask;
 
+/**
+ * Shows sliding overlays one at a time. The head of the queue is the overlay currently on screen, the rest wait
+ * ordered by priority and then by arrival. A waiting overlay with the same key as a new one is replaced by it, and
+ * once more than {@link NavigationApplication#getMaxQueuedInAppNotifications()} overlays wait, the oldest one with
+ * the lowest priority is dropped. Waiting overlays haven't created their views yet, so dropping them is free.
+ */
 public class SlidingOverlaysQueue implements SlidingOverlay.SlidingListener{
 
     private static final int SHORT_SUSTAIN_DURATION = 500;
 
-    protected Timer autoDismissTimer = null;
+    protected final Handler handler = new Handler(Looper.getMainLooper());
     protected boolean pendingHide;
-    protected Queue<SlidingOverlay> queue = new LinkedList<>();
+    protected LinkedList<SlidingOverlay> queue = new LinkedList<>();
+    private final Runnable autoDismiss = new Runnable() {
+        @Override
+        public void run() {
+            if(queue.peek() != null) {
+                queue.peek().hide();
+            }
+        }
+    };
 
     public void add(final SlidingOverlay slidingOverlay) {
         NavigationApplication.instance.runOnMainThread(new Runnable() {
             @Override
             public void run() {
-                queue.add(slidingOverlay);
+                enqueue(slidingOverlay);
                 if (queue.size() == 1) {
                     dispatchNextSlidingOverlay();
                 }
                 else {
                     SlidingOverlay currentOverlay = queue.peek();
                     if (currentOverlay != null && currentOverlay.isVisible()) {
-                        if (autoDismissTimer != null) {
-                            autoDismissTimer.cancel();
-                            autoDismissTimer = null;
-                        }
+                        cancelTimer();
                         currentOverlay.hide();
                     }
                 }
@@ -37,6 +48,44 @@ public class SlidingOverlaysQueue implements SlidingOverlay.SlidingListener{
         });
     }
 
+    private void enqueue(SlidingOverlay slidingOverlay) {
+        if (queue.isEmpty()) {
+            queue.add(slidingOverlay);
+            return;
+        }
+        removeWaiting(slidingOverlay.getKey());
+        int index = 1;
+        while (index < queue.size() && queue.get(index).getPriority() >= slidingOverlay.getPriority()) {
+            index++;
+        }
+        queue.add(index, slidingOverlay);
+        dropStale();
+    }
+
+    private void removeWaiting(String key) {
+        if (key == null) {
+            return;
+        }
+        for (int i = queue.size() - 1; i > 0; i--) {
+            if (key.equals(queue.get(i).getKey())) {
+                queue.remove(i);
+            }
+        }
+    }
+
+    private void dropStale() {
+        int maxWaiting = Math.max(1, NavigationApplication.instance.getMaxQueuedInAppNotifications());
+        while (queue.size() - 1 > maxWaiting) {
+            // Waiting overlays are ordered by priority, so the oldest one with the lowest priority starts the last group
+            int lowestPriority = queue.getLast().getPriority();
+            int index = queue.size() - 1;
+            while (index > 1 && queue.get(index - 1).getPriority() == lowestPriority) {
+                index--;
+            }
+            queue.remove(index);
+        }
+    }
+
     public void remove() {
         NavigationApplication.instance.runOnMainThread(new Runnable() {
             @Override
@@ -46,7 +95,7 @@ public class SlidingOverlaysQueue implements SlidingOverlay.SlidingListener{
                 if(currentOverlay == null) {
                     return;
                 }
-                
+
                 if (currentOverlay.isShowing()) {
                     pendingHide = true;
                 }
@@ -68,20 +117,8 @@ public class SlidingOverlaysQueue implements SlidingOverlay.SlidingListener{
                     : SHORT_SUSTAIN_DURATION;
             pendingHide = false;
 
-            autoDismissTimer = new Timer();
-            autoDismissTimer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    NavigationApplication.instance.runOnMainThread(new Runnable() {
-                        @Override
-                        public void run() {
-                            if(queue.peek() != null) {
-                                queue.peek().hide();
-                            }
-                        }
-                    });
-                }
-            }, autoDismissDuration);
+            cancelTimer();
+            handler.postDelayed(autoDismiss, autoDismissDuration);
         }
     }
 
@@ -93,12 +130,10 @@ public class SlidingOverlaysQueue implements SlidingOverlay.SlidingListener{
 
     public void destroy() {
         SlidingOverlay currentOverlay = queue.poll();
-        while (!queue.isEmpty()) {
-            queue.poll();
-        }
+        queue.clear();
+        cancelTimer();
 
         if (currentOverlay != null) {
-            cancelTimer();
             currentOverlay.setSlidingListener(null);
             currentOverlay.destroy();
         }
@@ -118,9 +153,6 @@ public class SlidingOverlaysQueue implements SlidingOverlay.SlidingListener{
     }
 
     protected void cancelTimer() {
-        if (autoDismissTimer != null) {
-            autoDismissTimer.cancel();
-            autoDismissTimer = null;
-        }
+        handler.removeCallbacks(autoDismiss);
     }
 }
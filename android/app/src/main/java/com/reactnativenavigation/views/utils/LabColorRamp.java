@@ -0,0 +1,27 @@
+package com.reactnativenavigation.views.utils;
+
+import android.support.annotation.ColorInt;
+
+/**
+ * Colors blended in LAB space between two colors, precomputed so animation frames only index into a table.
+ */
+public class LabColorRamp {
+    private static final int SIZE = 64;
+    private final int[] colors = new int[SIZE];
+
+    public LabColorRamp(@ColorInt int from, @ColorInt int to) {
+        double[] fromLab = ColorUtils.colorToLAB(from);
+        double[] toLab = ColorUtils.colorToLAB(to);
+        double[] lab = new double[3];
+        for (int i = 0; i < SIZE; i++) {
+            android.support.v4.graphics.ColorUtils.blendLAB(fromLab, toLab, i / (float) (SIZE - 1), lab);
+            colors[i] = ColorUtils.labToColor(lab);
+        }
+    }
+
+    @ColorInt
+    public int getColor(float fraction) {
+        int index = Math.round(fraction * (SIZE - 1));
+        return colors[Math.max(0, Math.min(SIZE - 1, index))];
+    }
+}
@@ -25,6 +25,9 @@ import android.animation.TypeEvaluator;
  * PathPoints is always specified by the end point of that interval).
  */
 public class PathEvaluator implements TypeEvaluator<PathPoint> {
+    // Reused for every frame, the animated property has to copy the values it needs
+    private final PathPoint result = PathPoint.moveTo(0, 0);
+
     @Override
     public PathPoint evaluate(float t, PathPoint startValue, PathPoint endValue) {
         float x, y;
@@ -45,6 +48,8 @@ public class PathEvaluator implements TypeEvaluator<PathPoint> {
             x = endValue.mX;
             y = endValue.mY;
         }
-        return PathPoint.moveTo(x, y);
+        result.mX = x;
+        result.mY = y;
+        return result;
     }
 }
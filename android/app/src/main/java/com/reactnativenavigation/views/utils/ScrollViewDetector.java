@@ -2,66 +2,136 @@ package com.reactnativenavigation.views.utils;
 
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.ViewTreeObserver;
 import android.widget.ScrollView;
 
-import com.reactnativenavigation.utils.ViewUtils;
+import com.reactnativenavigation.utils.ReflectionUtils;
 import com.reactnativenavigation.views.ContentView;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollViewAddedListener;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollViewDelegate;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Finds the ScrollView of a collapsing screen. Only subtrees which are added to the content view, or to a group
+ * which was already searched, are inspected, and only up to {@link #MAX_SEARCH_DEPTH} levels below the content view.
+ * Scroll views nested deeper than that can be registered explicitly with {@link #registerScrollView(View)}.
+ * Searched groups get a hierarchy change listener which forwards to the listener they already had.
+ */
 public class ScrollViewDetector {
-    private static final boolean SCROLLVIEW_FOUND = true;
-    private static final boolean SCROLLVIEW_NOT_FOUND = false;
+    private static final int MAX_SEARCH_DEPTH = 12;
+    private static final String HIERARCHY_CHANGE_LISTENER_FIELD = "mOnHierarchyChangeListener";
+
+    private final ContentView contentView;
     private OnScrollViewAddedListener scrollViewAddedListener;
     private ScrollViewDelegate scrollViewDelegate;
     private View.OnAttachStateChangeListener scrollViewStateChangeListener;
-    private ViewTreeObserver.OnGlobalLayoutListener scrollViewDetectorListener;
+    private final Map<ViewGroup, GroupObserver> observedGroups = new WeakHashMap<>();
+    private final Runnable searchContentView = new Runnable() {
+        @Override
+        public void run() {
+            searchChildren(contentView, 1);
+        }
+    };
 
     public ScrollViewDetector(ContentView contentView, OnScrollViewAddedListener onScrollViewAddedListener,
                               ScrollViewDelegate scrollViewDelegate) {
+        this.contentView = contentView;
         this.scrollViewAddedListener = onScrollViewAddedListener;
         this.scrollViewDelegate = scrollViewDelegate;
-        scrollViewStateChangeListener = createScrollViewStateChangeListener(contentView, scrollViewDelegate);
+        scrollViewStateChangeListener = createScrollViewStateChangeListener();
     }
 
-    private StateChangeListenerAdapter createScrollViewStateChangeListener(final ContentView contentView, final ScrollViewDelegate scrollViewDelegate) {
+    private StateChangeListenerAdapter createScrollViewStateChangeListener() {
         return new StateChangeListenerAdapter() {
             @Override
             public void onViewDetachedFromWindow(View scrollView) {
-                scrollViewDelegate.getScrollView().removeOnAttachStateChangeListener(this);
+                scrollView.removeOnAttachStateChangeListener(this);
                 scrollViewDelegate.onScrollViewRemoved();
-                detectScrollView(scrollViewDelegate, contentView);
+                // Search once the hierarchy has settled, another scroll view might already be there
+                contentView.post(searchContentView);
             }
         };
     }
 
-    private void detectScrollView(final ScrollViewDelegate scrollViewDelegate, final ContentView contentView) {
-        scrollViewDetectorListener = new ViewTreeObserver.OnGlobalLayoutListener() {
-            @Override
-            public void onGlobalLayout() {
-                if (!scrollViewDelegate.hasScrollView()) {
-                    if (findScrollView(contentView) && contentView.getViewTreeObserver().isAlive()) {
-                        contentView.getViewTreeObserver().removeOnGlobalLayoutListener(scrollViewDetectorListener);
-                    }
-                }
+    /**
+     * Called for each direct child added to the content view.
+     */
+    public void onViewAdded(View child) {
+        search(child, 1);
+    }
+
+    /**
+     * Uses the given view, or the first ScrollView inside it, regardless of how deep it is nested.
+     */
+    public void registerScrollView(View view) {
+        ScrollView scrollView = view instanceof ScrollView ? (ScrollView) view : findScrollView(view);
+        if (scrollView == null || scrollView == scrollViewDelegate.getScrollView()) {
+            return;
+        }
+        ScrollView current = scrollViewDelegate.getScrollView();
+        if (current != null) {
+            current.removeOnAttachStateChangeListener(scrollViewStateChangeListener);
+            scrollViewDelegate.onScrollViewRemoved();
+        }
+        onScrollViewFound(scrollView);
+    }
+
+    private boolean search(View view, int depth) {
+        if (scrollViewDelegate.hasScrollView()) {
+            return true;
+        }
+        if (view instanceof ScrollView) {
+            onScrollViewFound((ScrollView) view);
+            return true;
+        }
+        if (view instanceof ViewGroup && depth < MAX_SEARCH_DEPTH) {
+            ViewGroup group = (ViewGroup) view;
+            observe(group, depth);
+            return searchChildren(group, depth + 1);
+        }
+        return false;
+    }
+
+    private boolean searchChildren(ViewGroup group, int depth) {
+        for (int i = 0; i < group.getChildCount(); i++) {
+            if (search(group.getChildAt(i), depth)) {
+                return true;
             }
-        };
-        contentView.getViewTreeObserver().addOnGlobalLayoutListener(scrollViewDetectorListener);
+        }
+        return false;
+    }
+
+    private void observe(ViewGroup group, int depth) {
+        GroupObserver observer = observedGroups.get(group);
+        if (observer != null && getHierarchyChangeListener(group) == observer) {
+            observer.depth = depth;
+            return;
+        }
+        observer = new GroupObserver(depth, getHierarchyChangeListener(group));
+        observedGroups.put(group, observer);
+        group.setOnHierarchyChangeListener(observer);
     }
 
-    public boolean findScrollView(View child) {
-        if (child instanceof ScrollView) {
-            onScrollViewFound((ScrollView) child);
-            return SCROLLVIEW_FOUND;
-        } else if (child instanceof ViewGroup) {
-            Object maybeScrollView = ViewUtils.findChildByClass((ViewGroup) child, ScrollView.class);
-            if (maybeScrollView instanceof ScrollView) {
-                onScrollViewFound((ScrollView) maybeScrollView);
-                return SCROLLVIEW_FOUND;
+    private static ViewGroup.OnHierarchyChangeListener getHierarchyChangeListener(ViewGroup group) {
+        Object listener = ReflectionUtils.getDeclaredField(group, HIERARCHY_CHANGE_LISTENER_FIELD);
+        return listener instanceof ViewGroup.OnHierarchyChangeListener ? (ViewGroup.OnHierarchyChangeListener) listener : null;
+    }
+
+    private ScrollView findScrollView(View view) {
+        if (view instanceof ScrollView) {
+            return (ScrollView) view;
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                ScrollView result = findScrollView(group.getChildAt(i));
+                if (result != null) {
+                    return result;
+                }
             }
         }
-        return SCROLLVIEW_NOT_FOUND;
+        return null;
     }
 
     private void onScrollViewFound(final ScrollView scrollView) {
@@ -73,8 +143,44 @@ public class ScrollViewDetector {
     }
 
     public void destroy() {
+        contentView.removeCallbacks(searchContentView);
+        for (Map.Entry<ViewGroup, GroupObserver> entry : observedGroups.entrySet()) {
+            ViewGroup group = entry.getKey();
+            // Listeners set after ours replaced it and are left alone
+            if (group != null && getHierarchyChangeListener(group) == entry.getValue()) {
+                group.setOnHierarchyChangeListener(entry.getValue().wrapped);
+            }
+        }
+        observedGroups.clear();
         if (scrollViewDelegate.getScrollView() != null) {
             scrollViewDelegate.getScrollView().removeOnAttachStateChangeListener(scrollViewStateChangeListener);
         }
     }
+
+    private class GroupObserver implements ViewGroup.OnHierarchyChangeListener {
+        private int depth;
+        private final ViewGroup.OnHierarchyChangeListener wrapped;
+
+        GroupObserver(int depth, ViewGroup.OnHierarchyChangeListener wrapped) {
+            this.depth = depth;
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void onChildViewAdded(View parent, View child) {
+            if (wrapped != null) {
+                wrapped.onChildViewAdded(parent, child);
+            }
+            if (!scrollViewDelegate.hasScrollView()) {
+                search(child, depth + 1);
+            }
+        }
+
+        @Override
+        public void onChildViewRemoved(View parent, View child) {
+            if (wrapped != null) {
+                wrapped.onChildViewRemoved(parent, child);
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.reactnativenavigation.views.utils;
 
 import android.content.res.ColorStateList;
 import android.graphics.drawable.Drawable;
+import android.support.design.widget.TabLayout;
 import android.support.v4.graphics.drawable.DrawableCompat;
 
 import com.reactnativenavigation.params.StyleParams;
@@ -55,10 +56,14 @@ public class TopTabsIconColorHelper {
 
     private void colorIcons(ColorStateList colorStateList) {
         for (int i = 0; i < topTabs.getTabCount(); i++) {
-            Drawable icon = topTabs.getTabAt(i).getIcon();
+            TabLayout.Tab tab = topTabs.getTabAt(i);
+            Drawable icon = tab.getIcon();
             if (icon != null) {
-                icon = DrawableCompat.wrap(icon);
-                DrawableCompat.setTintList(icon, colorStateList);
+                Drawable tinted = DrawableCompat.wrap(icon.mutate());
+                DrawableCompat.setTintList(tinted, colorStateList);
+                if (tinted != icon) {
+                    tab.setIcon(tinted);
+                }
             }
         }
     }
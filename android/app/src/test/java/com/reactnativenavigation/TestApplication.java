@@ -0,0 +1,24 @@
+package com.reactnativenavigation;
+
+import android.support.annotation.Nullable;
+
+import com.facebook.react.ReactPackage;
+
+import java.util.List;
+
+/**
+ * Sets {@link NavigationApplication#instance} for tests of classes which use the application. Use with
+ * {@code @Config(application = TestApplication.class)}.
+ */
+public class TestApplication extends NavigationApplication {
+    @Override
+    public boolean isDebug() {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public List<ReactPackage> createAdditionalReactPackages() {
+        return null;
+    }
+}
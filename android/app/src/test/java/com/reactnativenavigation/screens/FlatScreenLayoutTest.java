@@ -0,0 +1,144 @@
+package com.reactnativenavigation.screens;
+
+import android.content.Context;
+import android.view.View;
+import android.widget.RelativeLayout;
+
+import com.reactnativenavigation.utils.ViewUtils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class FlatScreenLayoutTest {
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 1920;
+    private static final int TOP_BAR_HEIGHT = 168;
+
+    @Test
+    public void measuresEachChildOnce() {
+        TestScreen screen = measureAndLayout(new TestScreen(true, true));
+        assertThat(screen.topBar.measureCount).isEqualTo(1);
+        assertThat(screen.content.measureCount).isEqualTo(1);
+    }
+
+    @Test
+    public void measuresFewerTimesThanRelativeLayout() {
+        TestScreen relativeLayout = measureAndLayout(new TestScreen(false, true));
+        TestScreen flat = measureAndLayout(new TestScreen(true, true));
+        assertThat(flat.getMeasureCount()).isLessThan(relativeLayout.getMeasureCount());
+    }
+
+    @Test
+    public void placesContentBelowTopBar() {
+        TestScreen screen = measureAndLayout(new TestScreen(true, true));
+        assertThat(screen.topBar.getTop()).isEqualTo(0);
+        assertThat(screen.topBar.getHeight()).isEqualTo(TOP_BAR_HEIGHT);
+        assertThat(screen.content.getTop()).isEqualTo(TOP_BAR_HEIGHT);
+        assertThat(screen.content.getBottom()).isEqualTo(HEIGHT);
+        assertThat(screen.content.getWidth()).isEqualTo(WIDTH);
+    }
+
+    @Test
+    public void placesContentUnderTopBarWithoutBelowRule() {
+        TestScreen screen = measureAndLayout(new TestScreen(true, false));
+        assertThat(screen.content.getTop()).isEqualTo(0);
+        assertThat(screen.content.getHeight()).isEqualTo(HEIGHT);
+    }
+
+    @Test
+    public void contentFillsScreenWhenTopBarIsGone() {
+        TestScreen screen = new TestScreen(true, true);
+        screen.topBar.setVisibility(View.GONE);
+        measureAndLayout(screen);
+        assertThat(screen.content.getTop()).isEqualTo(0);
+        assertThat(screen.content.getHeight()).isEqualTo(HEIGHT);
+    }
+
+    @Test
+    public void matchesRelativeLayoutBounds() {
+        TestScreen relativeLayout = new TestScreen(false, true);
+        relativeLayout.setPadding(0, 24, 0, 0);
+        TestScreen flat = new TestScreen(true, true);
+        flat.setPadding(0, 24, 0, 0);
+        assertThat(measureAndLayout(flat).getBounds()).isEqualTo(measureAndLayout(relativeLayout).getBounds());
+    }
+
+    private static TestScreen measureAndLayout(TestScreen screen) {
+        screen.measure(makeMeasureSpec(WIDTH, EXACTLY), makeMeasureSpec(HEIGHT, EXACTLY));
+        screen.layout(0, 0, WIDTH, HEIGHT);
+        return screen;
+    }
+
+    /**
+     * The arrangement of a screen: content, optionally below the top bar, and the top bar above it.
+     */
+    private static class TestScreen extends RelativeLayout {
+        final CountingView topBar;
+        final CountingView content;
+        private final boolean isFlat;
+
+        TestScreen(boolean isFlat, boolean isContentBelowTopBar) {
+            super(RuntimeEnvironment.application);
+            this.isFlat = isFlat;
+            topBar = new CountingView(getContext());
+            topBar.setId(ViewUtils.generateViewId());
+            content = new CountingView(getContext());
+            LayoutParams contentParams = new LayoutParams(MATCH_PARENT, MATCH_PARENT);
+            if (isContentBelowTopBar) {
+                contentParams.addRule(BELOW, topBar.getId());
+            }
+            addView(content, contentParams);
+            addView(topBar, new LayoutParams(MATCH_PARENT, TOP_BAR_HEIGHT));
+        }
+
+        int getMeasureCount() {
+            return topBar.measureCount + content.measureCount;
+        }
+
+        int[] getBounds() {
+            return new int[]{topBar.getLeft(), topBar.getTop(), topBar.getRight(), topBar.getBottom(),
+                             content.getLeft(), content.getTop(), content.getRight(), content.getBottom()};
+        }
+
+        @Override
+        protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+            if (isFlat) {
+                FlatScreenLayout.measure(this, topBar, widthMeasureSpec, heightMeasureSpec);
+                setMeasuredDimension(MeasureSpec.getSize(widthMeasureSpec), MeasureSpec.getSize(heightMeasureSpec));
+            } else {
+                super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+            }
+        }
+
+        @Override
+        protected void onLayout(boolean changed, int l, int t, int r, int b) {
+            if (isFlat) {
+                FlatScreenLayout.layout(this, topBar);
+            } else {
+                super.onLayout(changed, l, t, r, b);
+            }
+        }
+    }
+
+    private static class CountingView extends View {
+        int measureCount;
+
+        CountingView(Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+            measureCount++;
+            super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+        }
+    }
+}
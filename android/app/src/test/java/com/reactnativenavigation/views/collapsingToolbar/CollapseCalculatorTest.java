@@ -0,0 +1,130 @@
+package com.reactnativenavigation.views.collapsingToolbar;
+
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.ScrollView;
+
+import com.reactnativenavigation.TestApplication;
+import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBehaviour;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(application = TestApplication.class)
+public class CollapseCalculatorTest {
+    private static final float FINAL_COLLAPSE_VALUE = -200;
+    private static final float CURRENT_COLLAPSE_VALUE = -100;
+
+    private CollapseCalculator uut;
+    private long eventTime;
+
+    @Before
+    public void beforeEach() {
+        uut = new CollapseCalculator(new TestCollapsingView(), new TestCollapseBehaviour());
+        uut.setScrollView(new ScrollView(RuntimeEnvironment.application));
+    }
+
+    @Test
+    public void collapsesByTheDistanceMoved() {
+        calculate(MotionEvent.ACTION_DOWN, 500);
+        CollapseAmount amount = calculate(MotionEvent.ACTION_MOVE, 460);
+        assertThat(amount.hasExactAmount()).isTrue();
+        assertThat(amount.get()).isEqualTo(CURRENT_COLLAPSE_VALUE - 40);
+    }
+
+    @Test
+    public void reusesTheCollapseAmountForEveryMoveEvent() {
+        calculate(MotionEvent.ACTION_DOWN, 500);
+        CollapseAmount first = calculate(MotionEvent.ACTION_MOVE, 460);
+        CollapseAmount second = calculate(MotionEvent.ACTION_MOVE, 450);
+        CollapseAmount third = calculate(MotionEvent.ACTION_MOVE, 470);
+        assertThat(first.hasExactAmount()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(third.get()).isEqualTo(CURRENT_COLLAPSE_VALUE + 20);
+    }
+
+    @Test
+    public void movesWithinTouchSlopDontCollapse() {
+        calculate(MotionEvent.ACTION_DOWN, 500);
+        assertThat(calculate(MotionEvent.ACTION_MOVE, 499)).isSameAs(CollapseAmount.None);
+    }
+
+    @Test
+    public void nextGestureStartsFromItsOwnTouchDown() {
+        calculate(MotionEvent.ACTION_DOWN, 500);
+        calculate(MotionEvent.ACTION_MOVE, 460);
+        calculate(MotionEvent.ACTION_UP, 460);
+
+        calculate(MotionEvent.ACTION_DOWN, 300);
+        CollapseAmount amount = calculate(MotionEvent.ACTION_MOVE, 260);
+        assertThat(amount.get()).isEqualTo(CURRENT_COLLAPSE_VALUE - 40);
+    }
+
+    /**
+     * Events are recycled right after they're handled, as the framework does, so the calculator must only keep
+     * primitive state from them.
+     */
+    private CollapseAmount calculate(int action, float y) {
+        eventTime += 16;
+        MotionEvent event = MotionEvent.obtain(0, eventTime, action, 0, y, 0);
+        try {
+            return uut.calculate(event);
+        } finally {
+            event.recycle();
+        }
+    }
+
+    private static class TestCollapsingView implements CollapsingView {
+        private final View view = new View(RuntimeEnvironment.application);
+
+        @Override
+        public float getFinalCollapseValue() {
+            return FINAL_COLLAPSE_VALUE;
+        }
+
+        @Override
+        public float getCurrentCollapseValue() {
+            return CURRENT_COLLAPSE_VALUE;
+        }
+
+        @Override
+        public View asView() {
+            return view;
+        }
+
+        @Override
+        public void collapse(CollapseAmount amount) {
+
+        }
+
+        @Override
+        public void fling(CollapseAmount amount) {
+
+        }
+    }
+
+    private static class TestCollapseBehaviour implements CollapseBehaviour {
+        @Override
+        public boolean shouldCollapseOnFling() {
+            return true;
+        }
+
+        @Override
+        public boolean shouldCollapseOnTouchUp() {
+            return false;
+        }
+
+        @Override
+        public boolean canExpend(int scrollY) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class SharedElementRegistryTest {
+    private SharedElementRegistry uut;
+    // Elements are weakly referenced by the registry
+    private final List<SharedElementTransition> elements = new ArrayList<>();
+
+    @Before
+    public void beforeEach() {
+        uut = new SharedElementRegistry();
+    }
+
+    @Test
+    public void getsElementsByKey() {
+        SharedElementTransition element = put("key");
+        assertThat(uut.get("key")).isSameAs(element);
+        assertThat(uut.containsKey("key")).isTrue();
+        assertThat(uut.get("other")).isNull();
+        assertThat(uut.containsKey("other")).isFalse();
+    }
+
+    @Test
+    public void dropsFirstRegisteredElementOnceFull() {
+        for (int i = 0; i < SharedElementRegistry.MAX_ELEMENTS; i++) {
+            put("key" + i);
+        }
+        assertThat(uut.keys()).hasSize(SharedElementRegistry.MAX_ELEMENTS);
+
+        put("last");
+        assertThat(uut.keys()).hasSize(SharedElementRegistry.MAX_ELEMENTS);
+        assertThat(uut.containsKey("key0")).isFalse();
+        assertThat(uut.containsKey("key1")).isTrue();
+        assertThat(uut.containsKey("last")).isTrue();
+    }
+
+    @Test
+    public void registeringKeyAgainMakesItTheNewest() {
+        for (int i = 0; i < SharedElementRegistry.MAX_ELEMENTS; i++) {
+            put("key" + i);
+        }
+        SharedElementTransition replacement = put("key0");
+        assertThat(uut.keys()).hasSize(SharedElementRegistry.MAX_ELEMENTS);
+        assertThat(uut.get("key0")).isSameAs(replacement);
+
+        put("last");
+        assertThat(uut.containsKey("key0")).isTrue();
+        assertThat(uut.containsKey("key1")).isFalse();
+    }
+
+    @Test
+    public void removesKeyOnlyForTheRegisteredElement() {
+        SharedElementTransition first = put("key");
+        SharedElementTransition second = put("key");
+
+        uut.remove("key", first);
+        assertThat(uut.get("key")).isSameAs(second);
+
+        uut.remove("key", second);
+        assertThat(uut.containsKey("key")).isFalse();
+    }
+
+    @Test
+    public void keysAreACopy() {
+        put("key");
+        List<String> keys = uut.keys();
+        uut.clear();
+        assertThat(keys).containsExactly("key");
+        assertThat(uut.isEmpty()).isTrue();
+    }
+
+    private SharedElementTransition put(String key) {
+        SharedElementTransition element = new SharedElementTransition(RuntimeEnvironment.application);
+        elements.add(element);
+        uut.put(key, element);
+        return element;
+    }
+}
@@ -0,0 +1,114 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.app.Activity;
+import android.content.Context;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.reactnativenavigation.TestApplication;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(application = TestApplication.class)
+public class TransitionPlanTest {
+    private ManualLayout container;
+    private SharedElementTransition from;
+    private SharedElementTransition to;
+    private TransitionPlan uut;
+
+    @Before
+    public void beforeEach() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        container = new ManualLayout(activity);
+        activity.setContentView(container);
+        from = createElement(10, 20, 100, 50);
+        to = createElement(30, 400, 300, 150);
+        uut = new TransitionPlan(from, to);
+    }
+
+    @Test
+    public void measuresBothElements() {
+        assertThat(uut.fromWidth).isEqualTo(100);
+        assertThat(uut.fromHeight).isEqualTo(50);
+        assertThat(uut.toWidth).isEqualTo(300);
+        assertThat(uut.toHeight).isEqualTo(150);
+        assertThat(uut.toXy.x - uut.fromXy.x).isEqualTo(20);
+        assertThat(uut.toXy.y - uut.fromXy.y).isEqualTo(380);
+    }
+
+    @Test
+    public void invertedSwapsFromAndTo() {
+        TransitionPlan inverted = uut.inverted();
+        assertThat(inverted.fromWidth).isEqualTo(uut.toWidth);
+        assertThat(inverted.fromHeight).isEqualTo(uut.toHeight);
+        assertThat(inverted.toWidth).isEqualTo(uut.fromWidth);
+        assertThat(inverted.toHeight).isEqualTo(uut.fromHeight);
+        assertThat(inverted.fromXy).isSameAs(uut.toXy);
+        assertThat(inverted.toXy).isSameAs(uut.fromXy);
+        assertThat(inverted.startColor).isEqualTo(uut.endColor);
+        assertThat(inverted.endColor).isEqualTo(uut.startColor);
+        assertThat(inverted.startDrawingRect).isSameAs(uut.endDrawingRect);
+        assertThat(inverted.endDrawingRect).isSameAs(uut.startDrawingRect);
+    }
+
+    @Test
+    public void isValidForTheElementsItWasMeasuredFor() {
+        assertThat(uut.isValidFor(from, to)).isTrue();
+        assertThat(uut.isValidFor(to, from)).isFalse();
+        assertThat(uut.inverted().isValidFor(to, from)).isTrue();
+        assertThat(uut.inverted().inverted().isValidFor(from, to)).isTrue();
+    }
+
+    @Test
+    public void isInvalidForOtherElements() {
+        SharedElementTransition other = createElement(10, 20, 100, 50);
+        assertThat(uut.isValidFor(other, to)).isFalse();
+    }
+
+    @Test
+    public void isInvalidOnceAnElementIsResized() {
+        to.layout(30, 400, 330, 600);
+        assertThat(uut.isValidFor(from, to)).isFalse();
+    }
+
+    @Test
+    public void isInvalidOnceAnElementMoves() {
+        from.layout(15, 20, 115, 70);
+        assertThat(uut.isValidFor(from, to)).isFalse();
+    }
+
+    /**
+     * Locations are only reported for views attached to a window, so elements are added to the activity.
+     */
+    private SharedElementTransition createElement(int left, int top, int width, int height) {
+        SharedElementTransition element = new SharedElementTransition(container.getContext());
+        View child = new View(container.getContext());
+        element.addView(child);
+        container.addView(element);
+        element.layout(left, top, left + width, top + height);
+        child.layout(0, 0, width, height);
+        return element;
+    }
+
+    /**
+     * Keeps the bounds the test gives its children.
+     */
+    private static class ManualLayout extends FrameLayout {
+        ManualLayout(Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+
+        }
+    }
+}
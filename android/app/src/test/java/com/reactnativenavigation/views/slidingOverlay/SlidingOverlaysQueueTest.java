@@ -0,0 +1,163 @@
+package com.reactnativenavigation.views.slidingOverlay;
+
+import android.widget.RelativeLayout;
+
+import com.reactnativenavigation.TestApplication;
+import com.reactnativenavigation.params.SlidingOverlayParams;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(application = TestApplication.class)
+public class SlidingOverlaysQueueTest {
+    private SlidingOverlaysQueue uut;
+    private TestOverlay current;
+
+    @Before
+    public void beforeEach() {
+        uut = new SlidingOverlaysQueue();
+        current = add("current", 0, null);
+    }
+
+    @Test
+    public void showsFirstOverlayRightAway() {
+        assertThat(current.isShown).isTrue();
+        assertThat(uut.queue).containsExactly(current);
+    }
+
+    @Test
+    public void ordersWaitingOverlaysByPriorityThenArrival() {
+        TestOverlay low1 = add("low1", 0, null);
+        TestOverlay high1 = add("high1", 1, null);
+        TestOverlay low2 = add("low2", 0, null);
+        TestOverlay high2 = add("high2", 1, null);
+        assertThat(uut.queue).containsExactly(current, high1, high2, low1, low2);
+    }
+
+    @Test
+    public void replacesWaitingOverlayWithTheSameKey() {
+        TestOverlay first = add("first", 0, "key");
+        TestOverlay other = add("other", 0, null);
+        TestOverlay second = add("second", 0, "key");
+        assertThat(uut.queue).containsExactly(current, other, second);
+        assertThat(first.isShown).isFalse();
+    }
+
+    @Test
+    public void doesNotReplaceCurrentOverlayWithTheSameKey() {
+        SlidingOverlaysQueue queue = new SlidingOverlaysQueue();
+        TestOverlay first = add(queue, "first", 0, "key");
+        TestOverlay second = add(queue, "second", 0, "key");
+        assertThat(queue.queue).containsExactly(first, second);
+    }
+
+    /**
+     * At most 5 overlays wait by default.
+     */
+    @Test
+    public void dropsOldestOverlayWithLowestPriorityWhenFull() {
+        TestOverlay high1 = add("high1", 1, null);
+        TestOverlay low1 = add("low1", 0, null);
+        TestOverlay low2 = add("low2", 0, null);
+        TestOverlay high2 = add("high2", 1, null);
+        TestOverlay low3 = add("low3", 0, null);
+        TestOverlay high3 = add("high3", 1, null);
+        assertThat(uut.queue).containsExactly(current, high1, high2, high3, low2, low3);
+        assertThat(uut.queue).doesNotContain(low1);
+    }
+
+    @Test
+    public void dropsFromHigherPriorityOnlyWhenNothingLowerWaits() {
+        TestOverlay[] waiting = new TestOverlay[6];
+        for (int i = 0; i < waiting.length; i++) {
+            waiting[i] = add("waiting" + i, 1, null);
+        }
+        assertThat(uut.queue).containsExactly(current, waiting[1], waiting[2], waiting[3], waiting[4], waiting[5]);
+    }
+
+    @Test
+    public void hidesVisibleCurrentOverlayWhenAnotherIsAdded() {
+        current.isVisible = true;
+        add("next", 0, null);
+        assertThat(current.isHidden).isTrue();
+    }
+
+    @Test
+    public void showsWaitingOverlayWithHighestPriorityWhenCurrentIsGone() {
+        TestOverlay low = add("low", 0, null);
+        TestOverlay high = add("high", 1, null);
+        uut.onSlidingOverlayGone();
+        ShadowLooper.runUiThreadTasks();
+        assertThat(high.isShown).isTrue();
+        assertThat(low.isShown).isFalse();
+        assertThat(uut.queue).containsExactly(high, low);
+    }
+
+    private TestOverlay add(String name, int priority, String key) {
+        return add(uut, name, priority, key);
+    }
+
+    private static TestOverlay add(SlidingOverlaysQueue queue, String name, int priority, String key) {
+        TestOverlay overlay = new TestOverlay(name, priority, key);
+        queue.add(overlay);
+        ShadowLooper.runUiThreadTasks();
+        return overlay;
+    }
+
+    private static class TestOverlay extends SlidingOverlay {
+        private final String name;
+        boolean isShown;
+        boolean isHidden;
+        boolean isVisible;
+
+        TestOverlay(String name, int priority, String key) {
+            super(new RelativeLayout(RuntimeEnvironment.application), createParams(priority, key));
+            this.name = name;
+        }
+
+        private static SlidingOverlayParams createParams(int priority, String key) {
+            SlidingOverlayParams params = new SlidingOverlayParams();
+            params.priority = priority;
+            params.key = key;
+            return params;
+        }
+
+        @Override
+        public void show() {
+            isShown = true;
+        }
+
+        @Override
+        public void hide() {
+            isHidden = true;
+        }
+
+        @Override
+        public void destroy() {
+
+        }
+
+        @Override
+        public boolean isShowing() {
+            return false;
+        }
+
+        @Override
+        public boolean isVisible() {
+            return isVisible;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
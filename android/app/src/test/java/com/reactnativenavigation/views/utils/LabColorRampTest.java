@@ -0,0 +1,41 @@
+package com.reactnativenavigation.views.utils;
+
+import android.graphics.Color;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class LabColorRampTest {
+    private static final int STEPS = 63;
+
+    private final LabColorRamp uut = new LabColorRamp(Color.RED, Color.BLUE);
+
+    @Test
+    public void startsAndEndsWithTheGivenColors() {
+        assertThat(uut.getColor(0)).isEqualTo(blend(0));
+        assertThat(uut.getColor(1)).isEqualTo(blend(1));
+    }
+
+    @Test
+    public void fractionsOutsideTheRampAreClamped() {
+        assertThat(uut.getColor(-0.5f)).isEqualTo(uut.getColor(0));
+        assertThat(uut.getColor(1.5f)).isEqualTo(uut.getColor(1));
+    }
+
+    @Test
+    public void fractionsUseTheNearestStep() {
+        assertThat(uut.getColor(0.5f)).isEqualTo(blend(32 / (float) STEPS));
+        assertThat(uut.getColor(10.4f / STEPS)).isEqualTo(blend(10 / (float) STEPS));
+        assertThat(uut.getColor(10.6f / STEPS)).isEqualTo(blend(11 / (float) STEPS));
+    }
+
+    private static int blend(float ratio) {
+        double[] lab = new double[3];
+        android.support.v4.graphics.ColorUtils.blendLAB(ColorUtils.colorToLAB(Color.RED), ColorUtils.colorToLAB(Color.BLUE), ratio, lab);
+        return ColorUtils.labToColor(lab);
+    }
+}
@@ -0,0 +1,37 @@
+package com.reactnativenavigation.views.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class PathEvaluatorTest {
+    private final PathEvaluator uut = new PathEvaluator();
+
+    @Test
+    public void evaluatesLines() {
+        PathPoint result = uut.evaluate(0.25f, PathPoint.moveTo(0, 0), PathPoint.lineTo(100, 200));
+        assertThat(result.mX).isEqualTo(25);
+        assertThat(result.mY).isEqualTo(50);
+    }
+
+    @Test
+    public void evaluatesCurveEnds() {
+        PathPoint start = PathPoint.moveTo(0, 0);
+        PathPoint end = PathPoint.curveTo(10, 20, 30, 40, 100, 200);
+        assertThat(uut.evaluate(0, start, end).mX).isEqualTo(0);
+        assertThat(uut.evaluate(1, start, end).mY).isEqualTo(200);
+    }
+
+    @Test
+    public void reusesTheResultForEveryFrame() {
+        PathPoint start = PathPoint.moveTo(0, 0);
+        PathPoint end = PathPoint.lineTo(100, 200);
+        PathPoint first = uut.evaluate(0.1f, start, end);
+        PathPoint second = uut.evaluate(0.75f, start, end);
+        assertThat(second).isSameAs(first);
+        assertThat(second.mX).isEqualTo(75);
+    }
+}
@@ -1,6 +1,6 @@
 /*eslint-disable*/
 import React from 'react';
-import {AppRegistry} from 'react-native';
+import {AppRegistry, DeviceEventEmitter} from 'react-native';
 import platformSpecific from './deprecated/platformSpecificDeprecated';
 import {Screen} from './Screen';
 
@@ -46,6 +46,30 @@ function _registerComponentNoRedux(screenID, generator) {
         })
       }
 
+      componentDidMount() {
+        this.propsListener = (passProps) => {
+          this.setState({
+            internalProps: {...this.props, ...passProps}
+          })
+        };
+        PropRegistry.setListener(this.props.screenInstanceID || this.props.passPropsKey, this.propsListener);
+        if (this.props.sharedPropsEvent) {
+          this.sharedPropsSubscription = DeviceEventEmitter.addListener(this.props.sharedPropsEvent, (passPropsKey) => {
+            this.setState({
+              internalProps: {...this.props, ...PropRegistry.load(passPropsKey)}
+            })
+          });
+        }
+      }
+
+      componentWillUnmount() {
+        PropRegistry.removeListener(this.props.screenInstanceID || this.props.passPropsKey, this.propsListener);
+        if (this.sharedPropsSubscription) {
+          this.sharedPropsSubscription.remove();
+        }
+        super.componentWillUnmount();
+      }
+
       render() {
         return (
           <InternalComponent testID={screenID} navigator={this.navigator} {...this.state.internalProps} />
@@ -77,6 +101,30 @@ function _registerComponentRedux(screenID, generator, store, Provider, options)
         })
       }
 
+      componentDidMount() {
+        this.propsListener = (passProps) => {
+          this.setState({
+            internalProps: {...this.props, ...passProps}
+          })
+        };
+        PropRegistry.setListener(this.props.screenInstanceID || this.props.passPropsKey, this.propsListener);
+        if (this.props.sharedPropsEvent) {
+          this.sharedPropsSubscription = DeviceEventEmitter.addListener(this.props.sharedPropsEvent, (passPropsKey) => {
+            this.setState({
+              internalProps: {...this.props, ...PropRegistry.load(passPropsKey)}
+            })
+          });
+        }
+      }
+
+      componentWillUnmount() {
+        PropRegistry.removeListener(this.props.screenInstanceID || this.props.passPropsKey, this.propsListener);
+        if (this.sharedPropsSubscription) {
+          this.sharedPropsSubscription.remove();
+        }
+        super.componentWillUnmount();
+      }
+
       render() {
         return (
           <Provider store={store} {...options}>
@@ -1,10 +1,29 @@
 class PropRegistry {
   constructor() {
     this.registry = {};
+    this.listeners = {};
   }
 
   save(screenInstanceId = '', passProps = {}) {
     this.registry[screenInstanceId] = passProps;
+    const listener = this.listeners[screenInstanceId];
+    if (listener) {
+      listener(passProps);
+    }
+  }
+
+  // Lets a mounted screen receive props saved again under its id, e.g. when a kept alive lightbox is shown again or
+  // a button component is kept across setButtons calls
+  setListener(screenInstanceId, listener) {
+    if (screenInstanceId) {
+      this.listeners[screenInstanceId] = listener;
+    }
+  }
+
+  removeListener(screenInstanceId, listener) {
+    if (this.listeners[screenInstanceId] === listener) {
+      delete this.listeners[screenInstanceId];
+    }
   }
 
   load(screenInstanceId = '') {
@@ -125,6 +125,10 @@ class Navigator {
     return platformSpecific.navigatorSwitchToTopTab(this, params);
   }
 
+  setCollapsingScrollView(params = {}) {
+    return platformSpecific.navigatorSetCollapsingScrollView(this, params);
+  }
+
   showSnackbar(params = {}) {
     return platformSpecific.showSnackbar(params);
   }
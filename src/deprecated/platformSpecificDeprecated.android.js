@@ -153,6 +153,7 @@ function convertStyleParams(originalStyleObject) {
     topBarReactView: originalStyleObject.navBarCustomView,
     topBarReactViewAlignment: originalStyleObject.navBarComponentAlignment,
     topBarReactViewInitialProps: originalStyleObject.navBarCustomViewInitialProps,
+    topBarReactViewShared: originalStyleObject.navBarCustomViewShared,
     topBarColor: processColor(originalStyleObject.navBarBackgroundColor),
     topBarTransparent: originalStyleObject.navBarTransparent,
     topBarTranslucent: originalStyleObject.navBarTranslucent,
@@ -167,6 +168,7 @@ function convertStyleParams(originalStyleObject) {
     collapsingToolBarExpendedColor: processColor(originalStyleObject.collapsingToolBarExpendedColor),
     showTitleWhenExpended: originalStyleObject.showTitleWhenExpended,
     expendCollapsingToolBarOnTopTabChange: originalStyleObject.expendCollapsingToolBarOnTopTabChange,
+    collapsingToolBarNestedScrolling: originalStyleObject.collapsingToolBarNestedScrolling,
     titleBarHidden: originalStyleObject.navBarHidden,
     titleBarHideOnScroll: originalStyleObject.navBarHideOnScroll,
     titleBarTitleColor: processColor(originalStyleObject.navBarTextColor),
@@ -189,6 +191,7 @@ function convertStyleParams(originalStyleObject) {
     contextualMenuButtonsColor: processColor(originalStyleObject.contextualMenuButtonsColor),
 
     drawBelowTopBar: !originalStyleObject.drawUnderNavBar,
+    flatScreenLayout: originalStyleObject.flatScreenLayout,
 
     topTabTextColor: processColor(originalStyleObject.topTabTextColor),
     topTabTextFontFamily: originalStyleObject.topTabTextFontFamily,
@@ -210,6 +213,7 @@ function convertStyleParams(originalStyleObject) {
     bottomTabsHidden: originalStyleObject.tabBarHidden,
     bottomTabsHiddenOnScroll: originalStyleObject.bottomTabsHiddenOnScroll,
     forceTitlesDisplay: originalStyleObject.forceTitlesDisplay,
+    hibernateHiddenTabs: originalStyleObject.hibernateHiddenTabs,
     bottomTabBadgeTextColor: processColor(originalStyleObject.bottomTabBadgeTextColor),
     bottomTabBadgeBackgroundColor: processColor(originalStyleObject.bottomTabBadgeBackgroundColor),
     bottomTabFontFamily: originalStyleObject.tabFontFamily,
@@ -267,6 +271,7 @@ function convertDrawerParamsToSideMenuParams(drawerParams) {
       } else {
         result[key].fixedWidth = drawer[key].fixedWidth;
       }
+      result[key].lazy = !!(drawer.lazy || drawer[key].lazy);
 
     } else {
       result[key] = null;
@@ -358,9 +363,7 @@ function navigatorSetButtons(navigator, navigatorEventID, _params) {
         button.color = processColor(button.buttonColor);
       }
       if (button.component) {
-        const passPropsKey = _.uniqueId('customButtonComponent');
-        PropRegistry.save(passPropsKey, button.passProps);
-        button.passProps = {passPropsKey};
+        saveButtonComponentProps(button, navigatorEventID);
       }
     });
   }
@@ -423,6 +426,13 @@ function navigatorSetStyle(navigator, params) {
   newPlatformSpecific.setScreenStyle(navigator.screenInstanceID, style);
 }
 
+function navigatorSetCollapsingScrollView(navigator, params) {
+  const reactTag = params.scrollView && ReactNative.findNodeHandle(params.scrollView);
+  if (reactTag) {
+    newPlatformSpecific.setCollapsingScrollView(reactTag);
+  }
+}
+
 function navigatorSwitchToTab(navigator, params) {
   if (params.tabIndex >= 0) {
     newPlatformSpecific.selectBottomTabByTabIndex(params.tabIndex);
@@ -497,10 +507,23 @@ function showModal(params) {
   newPlatformSpecific.showModal(adapted);
 }
 
+const keptAliveLightBoxNavigationParams = {};
+
 function showLightBox(params) {
-  params.navigationParams = {};
-  addNavigatorParams(params.navigationParams);
   params.screenId = params.screen;
+  params.keepAlive = _.get(params, 'style.keepAlive') || false;
+  if (params.keepAlive) {
+    // A kept alive lightbox is shown again with its original navigation params, only its props are replaced
+    if (!keptAliveLightBoxNavigationParams[params.screenId]) {
+      keptAliveLightBoxNavigationParams[params.screenId] = {};
+      addNavigatorParams(keptAliveLightBoxNavigationParams[params.screenId]);
+    }
+    params.navigationParams = {...keptAliveLightBoxNavigationParams[params.screenId]};
+    params.passProps = params.passProps || {};
+  } else {
+    params.navigationParams = {};
+    addNavigatorParams(params.navigationParams);
+  }
   const backgroundBlur = _.get(params, 'style.backgroundBlur');
   const backgroundColor = _.get(params, 'style.backgroundColor');
   if (backgroundColor) {
@@ -551,6 +574,16 @@ function addNavigatorParams(screen, navigator = null, idx = '') {
   screen.navigatorEventID = screen.screenInstanceID + '_events';
 }
 
+// Buttons with an id get the same props key every time the screen sets its buttons, so a component button which is
+// kept on the title bar keeps its root and receives the new props
+function saveButtonComponentProps(button, navigatorEventID) {
+  const passPropsKey = button.id && navigatorEventID ?
+    `customButtonComponent_${navigatorEventID}_${button.id}` :
+    _.uniqueId('customButtonComponent');
+  PropRegistry.save(passPropsKey, button.passProps);
+  button.passProps = {passPropsKey};
+}
+
 function addNavigatorButtons(screen, sideMenuParams) {
 
   const Screen = Navigation.getRegisteredScreen(screen.screen);
@@ -573,9 +606,7 @@ function addNavigatorButtons(screen, sideMenuParams) {
         button.color = processColor(button.buttonColor);
       }
       if (button.component) {
-        const passPropsKey = _.uniqueId('customButtonComponent');
-        PropRegistry.save(passPropsKey, button.passProps);
-        button.passProps = {passPropsKey};
+        saveButtonComponentProps(button, screen.navigatorEventID);
       }
     });
   }
@@ -802,6 +833,7 @@ export default {
   navigatorSetTitle,
   navigatorSetSubtitle,
   navigatorSetStyle,
+  navigatorSetCollapsingScrollView,
   navigatorSwitchToTab,
   navigatorSwitchToTopTab,
   navigatorToggleDrawer,
@@ -666,6 +666,10 @@ function dismissContextualMenu() {
   // Android only
 }
 
+function navigatorSetCollapsingScrollView() {
+  // Android only
+}
+
 async function getCurrentlyVisibleScreenId() {
   return await ScreenUtils.getCurrentlyVisibleScreenId();
 }
@@ -725,6 +729,7 @@ export default {
   navigatorToggleNavBar,
   showContextualMenu,
   dismissContextualMenu,
+  navigatorSetCollapsingScrollView,
   getCurrentlyVisibleScreenId,
   getLaunchArgs
 };
@@ -177,6 +177,10 @@ function setScreenStyle(screenInstanceId, style) {
   NativeReactModule.setScreenStyle(screenInstanceId, style);
 }
 
+function setCollapsingScrollView(reactTag) {
+  NativeReactModule.setCollapsingScrollView(reactTag);
+}
+
 async function isAppLaunched() {
   return await NativeReactModule.isAppLaunched();
 }
@@ -227,6 +231,7 @@ module.exports = {
   showContextualMenu,
   dismissContextualMenu,
   setScreenStyle,
+  setCollapsingScrollView,
   isAppLaunched,
   isRootLaunched,
   getCurrentlyVisibleScreenId,